@@ -1,16 +1,21 @@
 package com.backbase.ct.bbfuel;
 
+import com.backbase.ct.bbfuel.client.common.CircuitBreaker;
+import com.backbase.ct.bbfuel.client.common.ConcurrencyLimiter;
 import com.backbase.ct.bbfuel.healthcheck.AccessControlHealthCheck;
 import com.backbase.ct.bbfuel.healthcheck.BillPayHealthCheck;
 import com.backbase.ct.bbfuel.healthcheck.ProductSummaryHealthCheck;
 import com.backbase.ct.bbfuel.healthcheck.TransactionsHealthCheck;
 import com.backbase.ct.bbfuel.setup.AccessControlSetup;
 import com.backbase.ct.bbfuel.setup.CapabilitiesDataSetup;
+import com.backbase.ct.bbfuel.setup.IngestionPlan;
 import com.backbase.ct.bbfuel.setup.ServiceAgreementsSetup;
 import com.backbase.ct.bbfuel.util.GlobalProperties;
+import com.backbase.ct.bbfuel.util.IngestionJournal;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,6 +27,13 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class Runner implements ApplicationRunner {
     private static final Logger LOGGER = LoggerFactory.getLogger(Runner.class);
+    private static final String STEP_ACCESS_CONTROL_HEALTH_CHECK = "access control health check";
+    private static final String STEP_PRODUCT_SUMMARY_HEALTH_CHECK = "product summary health check";
+    private static final String STEP_TRANSACTIONS_HEALTH_CHECK = "transactions health check";
+    private static final String STEP_BILL_PAY_HEALTH_CHECK = "bill pay health check";
+    private static final String STEP_ACCESS_CONTROL = "access control";
+    private static final String STEP_CUSTOM_SERVICE_AGREEMENTS = "custom service agreements";
+    private static final String OPTION_RESUME = "resume";
 
     private final AccessControlSetup accessControlSetup;
     private final ServiceAgreementsSetup serviceAgreementsSetup;
@@ -30,11 +42,16 @@ public class Runner implements ApplicationRunner {
     private final ProductSummaryHealthCheck productSummaryHealthCheck;
     private final TransactionsHealthCheck transactionsHealthCheck;
     private final BillPayHealthCheck billPayHealthCheck;
+    private final IngestionJournal journal;
 
     @Override
     public void run(ApplicationArguments args) {
         try {
-            doIt();
+            List<String> skipped = doIt(args.containsOption(OPTION_RESUME));
+            if (!skipped.isEmpty()) {
+                LOGGER.error("Steps {} skipped, services they use were unavailable", skipped);
+                System.exit(1);
+            }
             System.exit(0);
         } catch (IOException e) {
             LOGGER.error("Failed setting up access", e);
@@ -45,37 +62,45 @@ public class Runner implements ApplicationRunner {
     /**
      * Sponsored runner.
      *
-     * @throws IOException when setupAccessControl throws it
+     * @param resume skip the units done according to the journal of previous runs
+     * @return the steps skipped because services were unavailable
+     * @throws IOException when one of the ingestion steps throws it
      */
-    private void doIt() throws IOException {
+    private List<String> doIt(boolean resume) throws IOException {
         if (LOGGER.isInfoEnabled()) {
             String environment = GlobalProperties.getInstance().getString("environment.name");
             LOGGER.info("Ingesting data into {}", (environment == null ? "environment" : environment));
         }
-        performHealthChecks();
-
         Instant start = Instant.now();
 
-        setupAccessControl();
-        ingestCapabilityData();
+        journal.open(resume);
+        List<String> skipped;
+        try {
+            skipped = createIngestionPlan().run();
+        } finally {
+            CircuitBreaker.logRejected();
+        }
 
         logDuration(start);
+        ConcurrencyLimiter.logLimits();
+        return skipped;
     }
 
-    private void performHealthChecks() {
-        accessControlHealthCheck.checkAccessControlServicesHealth();
-        productSummaryHealthCheck.checkProductSummaryServicesHealth();
-        transactionsHealthCheck.checkTransactionsServicesHealth();
-        billPayHealthCheck.checkBillPayServicesHealth();
-    }
-
-    private void setupAccessControl() throws IOException {
-        accessControlSetup.initiate();
-        serviceAgreementsSetup.initiate();
-    }
-
-    private void ingestCapabilityData() {
-        capabilitiesDataSetup.initiate();
+    /**
+     * Health checks come first, then access control and custom service agreements, then the capability data. Steps
+     * that do not depend on each other run concurrently.
+     */
+    private IngestionPlan createIngestionPlan() {
+        IngestionPlan plan = new IngestionPlan()
+            .add(STEP_ACCESS_CONTROL_HEALTH_CHECK, accessControlHealthCheck::checkAccessControlServicesHealth)
+            .add(STEP_PRODUCT_SUMMARY_HEALTH_CHECK, productSummaryHealthCheck::checkProductSummaryServicesHealth)
+            .add(STEP_TRANSACTIONS_HEALTH_CHECK, transactionsHealthCheck::checkTransactionsServicesHealth)
+            .add(STEP_BILL_PAY_HEALTH_CHECK, billPayHealthCheck::checkBillPayServicesHealth)
+            .add(STEP_ACCESS_CONTROL, accessControlSetup::initiate,
+                STEP_ACCESS_CONTROL_HEALTH_CHECK, STEP_PRODUCT_SUMMARY_HEALTH_CHECK, STEP_TRANSACTIONS_HEALTH_CHECK)
+            .add(STEP_CUSTOM_SERVICE_AGREEMENTS, serviceAgreementsSetup::initiate, STEP_ACCESS_CONTROL);
+        capabilitiesDataSetup.addSteps(plan, STEP_CUSTOM_SERVICE_AGREEMENTS, STEP_BILL_PAY_HEALTH_CHECK);
+        return plan;
     }
 
     private void logDuration(Instant start) {
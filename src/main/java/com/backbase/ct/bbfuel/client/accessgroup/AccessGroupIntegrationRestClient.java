@@ -35,28 +35,28 @@ public class AccessGroupIntegrationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getDbs().getAccessgroup());
+        setBaseUri(config.getDbs().getAccessgroup(), config.getDbs().getConnectionPool());
         setVersion(SERVICE_VERSION);
     }
 
     public Response ingestFunctionGroup(FunctionGroupPostRequestBody body) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(body)
-            .post(getPath(ENDPOINT_FUNCTION));
+            .post(getPath(ENDPOINT_FUNCTION)));
     }
 
     public Response ingestDataGroup(DataGroupPostRequestBody body) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(body)
-            .post(getPath(ENDPOINT_DATA));
+            .post(getPath(ENDPOINT_DATA)));
     }
 
     public List<FunctionsGetResponseBody> retrieveFunctions() {
-        return asList(requestSpec()
+        return asList(send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
-            .get(getPath(ENDPOINT_CONFIG_FUNCTIONS))
+            .get(getPath(ENDPOINT_CONFIG_FUNCTIONS)))
             .then()
             .statusCode(SC_OK)
             .extract()
@@ -81,10 +81,17 @@ public class AccessGroupIntegrationRestClient extends RestClient {
     }
 
     public Response assignPermissions(IntegrationAssignUserPermissions body) {
-        return requestSpec()
+        return assignPermissions(singletonList(body));
+    }
+
+    /**
+     * Assign the permissions of several users in one request, the response has a status per item.
+     */
+    public Response assignPermissions(List<IntegrationAssignUserPermissions> body) {
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
-            .body(singletonList(body))
-            .put(getPath(ENDPOINT_USERS_PERMISSIONS));
+            .body(body)
+            .put(getPath(ENDPOINT_USERS_PERMISSIONS)));
     }
 
     public Response assignPermissions(
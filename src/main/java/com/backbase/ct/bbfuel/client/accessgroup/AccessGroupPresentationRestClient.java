@@ -31,14 +31,14 @@ public class AccessGroupPresentationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getPlatform().getGateway());
+        setBaseUri(config.getPlatform().getGateway(), config.getPlatform().getConnectionPool());
         setVersion(SERVICE_VERSION);
         setInitialPath(ACCESS_GROUP_PRESENTATION_SERVICE);
     }
 
     public List<FunctionGroupsGetResponseBody> retrieveFunctionGroupsByServiceAgreement(String internalServiceAgreementId) {
-        return asList(requestSpec()
-            .get(String.format(getPath(ENDPOINT_FUNCTION_BY_SERVICE_AGREEMENT_ID), internalServiceAgreementId))
+        return asList(send(requestSpec -> requestSpec
+            .get(String.format(getPath(ENDPOINT_FUNCTION_BY_SERVICE_AGREEMENT_ID), internalServiceAgreementId)))
             .then()
             .statusCode(SC_OK)
             .extract()
@@ -52,9 +52,9 @@ public class AccessGroupPresentationRestClient extends RestClient {
     }
 
     public List<DataGroupsGetResponseBody> retrieveDataGroupsByServiceAgreement(String internalServiceAgreement) {
-        return asList(requestSpec()
+        return asList(send(requestSpec -> requestSpec
             .get(String.format(getPath(ENDPOINT_DATA_BY_SERVICE_AGREEMENT_ID_AND_TYPE), internalServiceAgreement,
-                    "ARRANGEMENTS"))
+                    "ARRANGEMENTS")))
             .then()
             .statusCode(SC_OK)
             .extract()
@@ -99,9 +99,9 @@ public class AccessGroupPresentationRestClient extends RestClient {
     }
 
     public List<UsersGetResponseBody> getUserAccessByUserId(String userId) {
-        return asList(requestSpec()
+        return asList(send(requestSpec -> requestSpec
             .queryParam("userId", userId)
-            .get(getPath(ENDPOINT_USER_ACCESS))
+            .get(getPath(ENDPOINT_USER_ACCESS)))
             .then()
             .statusCode(SC_OK)
             .extract()
@@ -28,27 +28,27 @@ public class ServiceAgreementsIntegrationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getDbs().getAccessgroup());
+        setBaseUri(config.getDbs().getAccessgroup(), config.getDbs().getConnectionPool());
         setVersion(SERVICE_VERSION);
     }
 
     public Response ingestServiceAgreement(ServiceAgreementPostRequestBody body) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(body)
-            .post(getPath(ENDPOINT_SERVICE_AGREEMENTS));
+            .post(getPath(ENDPOINT_SERVICE_AGREEMENTS)));
     }
 
     public Response updateServiceAgreement(String internalServiceAgreementId, ServiceAgreementPutRequestBody body) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(body)
-            .put(getPath(String.format(ENDPOINT_SERVICE_AGREEMENTS_BY_ID, internalServiceAgreementId)));
+            .put(getPath(String.format(ENDPOINT_SERVICE_AGREEMENTS_BY_ID, internalServiceAgreementId))));
     }
 
     public ServiceAgreementGet retrieveServiceAgreementByExternalId(String externalServiceAgreementId) {
-        return requestSpec()
-            .get(getPath(String.format(ENDPOINT_SERVICE_AGREEMENTS_BY_ID, externalServiceAgreementId)))
+        return send(requestSpec -> requestSpec
+            .get(getPath(String.format(ENDPOINT_SERVICE_AGREEMENTS_BY_ID, externalServiceAgreementId))))
             .then()
             .statusCode(SC_OK)
             .extract()
@@ -56,9 +56,9 @@ public class ServiceAgreementsIntegrationRestClient extends RestClient {
     }
 
     public Response addServiceAgreementAdminsBulk(List<UserServiceAgreementPair> listOfUsers) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(listOfUsers)
-            .post(getPath(ADD_ADMINS_IN_SA));
+            .post(getPath(ADD_ADMINS_IN_SA)));
     }
 }
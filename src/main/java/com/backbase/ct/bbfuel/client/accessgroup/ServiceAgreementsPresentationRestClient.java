@@ -27,21 +27,21 @@ public class ServiceAgreementsPresentationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getPlatform().getGateway());
+        setBaseUri(config.getPlatform().getGateway(), config.getPlatform().getConnectionPool());
         setVersion(SERVICE_VERSION);
         setInitialPath(ACCESS_GROUP_PRESENTATION_SERVICE);
     }
 
     public Response retrieveServiceAgreementByCreatorLegalEntityId(String internalCreatorLegalEntityId) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
-            .get(getPath(String.format(ENDPOINT_SERVICE_AGREEMENTS_BY_CREATOR_ID, internalCreatorLegalEntityId)));
+            .get(getPath(String.format(ENDPOINT_SERVICE_AGREEMENTS_BY_CREATOR_ID, internalCreatorLegalEntityId))));
     }
 
     public ServiceAgreementGetResponseBody retrieveServiceAgreement(String internalServiceAgreementId) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
-            .get(getPath(String.format(ENDPOINT_SERVICE_AGREEMENTS_BY_ID, internalServiceAgreementId)))
+            .get(getPath(String.format(ENDPOINT_SERVICE_AGREEMENTS_BY_ID, internalServiceAgreementId))))
             .then()
             .statusCode(SC_OK)
             .extract()
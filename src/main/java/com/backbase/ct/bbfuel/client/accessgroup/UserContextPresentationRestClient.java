@@ -4,6 +4,8 @@ import static org.apache.http.HttpStatus.SC_NO_CONTENT;
 import static org.apache.http.HttpStatus.SC_OK;
 
 import com.backbase.ct.bbfuel.client.common.RestClient;
+import com.backbase.ct.bbfuel.client.common.SessionContext;
+import com.backbase.ct.bbfuel.client.common.UserSession;
 import com.backbase.ct.bbfuel.config.BbFuelConfiguration;
 import com.backbase.presentation.accessgroup.rest.spec.v2.accessgroups.serviceagreements.ServiceAgreementGetResponseBody;
 import com.backbase.presentation.accessgroup.rest.spec.v2.accessgroups.usercontext.UserContextPostRequestBody;
@@ -30,25 +32,36 @@ public class UserContextPresentationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getPlatform().getGateway());
+        setBaseUri(config.getPlatform().getGateway(), config.getPlatform().getConnectionPool());
         setVersion(SERVICE_VERSION);
         setInitialPath(ACCESS_GROUP_PRESENTATION_SERVICE);
+        setContextSelection(this::selectContextBasedOnMasterServiceAgreement);
     }
 
+    /**
+     * Select the master service agreement of the logged in user as user context. The selection is kept in the session
+     * until the session logs in again, selecting it again meanwhile does nothing. A session that logs in again because
+     * a request was rejected selects it again right away.
+     */
     public void selectContextBasedOnMasterServiceAgreement() {
+        UserSession session = SessionContext.current();
+        if (session.isLoggedIn() && session.getServiceAgreementId() != null) {
+            return;
+        }
         ServiceAgreementGetResponseBody masterServiceAgreement = getMasterServiceAgreementForUserContext();
 
         postUserContext(new UserContextPostRequestBody()
             .withServiceAgreementId(masterServiceAgreement.getId()))
             .then()
             .statusCode(SC_NO_CONTENT);
+        session.setServiceAgreementId(masterServiceAgreement.getId());
     }
 
     private Response postUserContext(UserContextPostRequestBody userContextPostRequestBody) {
-        Response response = requestSpec()
+        Response response = send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(userContextPostRequestBody)
-            .post(getPath(ENDPOINT_USER_CONTEXT));
+            .post(getPath(ENDPOINT_USER_CONTEXT)));
 
         Map<String, String> cookies = new HashMap<>(response.then()
             .extract()
@@ -59,9 +72,9 @@ public class UserContextPresentationRestClient extends RestClient {
     }
 
     private Response getServiceAgreementsForUserContext() {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
-            .get(getPath(ENDPOINT_USER_CONTEXT_SERVICE_AGREEMENTS));
+            .get(getPath(ENDPOINT_USER_CONTEXT_SERVICE_AGREEMENTS)));
     }
 
     public ServiceAgreementGetResponseBody getMasterServiceAgreementForUserContext() {
@@ -21,16 +21,16 @@ public class ActionRecipesPresentationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getPlatform().getGateway());
+        setBaseUri(config.getPlatform().getGateway(), config.getPlatform().getConnectionPool());
         setVersion(SERVICE_VERSION);
         setInitialPath(ACTIONRECIPES_PRESENTATION_SERVICE);
     }
 
     public Response createActionRecipe(ActionRecipesPostRequestBody actionRecipesPostRequestBody) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(actionRecipesPostRequestBody)
-            .post(getPath(ENDPOINT_ACTION_RECIPES));
+            .post(getPath(ENDPOINT_ACTION_RECIPES)));
     }
 
 }
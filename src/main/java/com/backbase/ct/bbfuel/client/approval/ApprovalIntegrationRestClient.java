@@ -45,54 +45,54 @@ public class ApprovalIntegrationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getDbs().getApprovals());
+        setBaseUri(config.getDbs().getApprovals(), config.getDbs().getConnectionPool());
         setVersion(SERVICE_VERSION);
     }
 
     public Response createApprovalType(PostApprovalTypeRequest body) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(body)
-            .post(getPath(APPROVAL_TYPES));
+            .post(getPath(APPROVAL_TYPES)));
     }
 
     public Response deleteApprovalType(String approvalTypeId) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
-            .delete(getPath(APPROVAL_TYPES + "/" + approvalTypeId));
+            .delete(getPath(APPROVAL_TYPES + "/" + approvalTypeId)));
     }
 
     public Response assignApprovalTypes(IntegrationPostBulkApprovalTypeAssignmentRequest body) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(body)
-            .post(getPath(APPROVAL_TYPE_ASSIGNMENTS_BULK));
+            .post(getPath(APPROVAL_TYPE_ASSIGNMENTS_BULK)));
     }
 
     public Response deleteApprovalTypeAssignment(String jobProfileId) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
-            .delete(getPath(APPROVAL_TYPE_ASSIGNMENTS + "/" + jobProfileId));
+            .delete(getPath(APPROVAL_TYPE_ASSIGNMENTS + "/" + jobProfileId)));
     }
 
     public Response createPolicy(IntegrationPostPolicyRequest body) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(body)
-            .post(getPath(POLICIES));
+            .post(getPath(POLICIES)));
     }
 
     public Response assignPolicies(IntegrationPostPolicyAssignmentBulkRequest body) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(body)
-            .post(getPath(POLICY_ASSIGNMENTS_BULK));
+            .post(getPath(POLICY_ASSIGNMENTS_BULK)));
     }
 
     public Response deletePolicy(String policyId) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
-            .delete(getPath(POLICIES + "/" + policyId));
+            .delete(getPath(POLICIES + "/" + policyId)));
     }
 
     public String createApprovalType(String name, Integer rank) {
@@ -143,12 +143,12 @@ public class ApprovalIntegrationRestClient extends RestClient {
     public IntegrationDeletePolicyAssignmentResponse deletePolicyAssignment(String externalServiceAgreementId,
         String resource,
         String function) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .queryParam("externalServiceAgreementId", externalServiceAgreementId)
             .queryParam("resource", resource)
             .queryParam("function", function)
-            .delete(getPath(POLICY_ASSIGNMENTS))
+            .delete(getPath(POLICY_ASSIGNMENTS)))
             .then()
             .statusCode(SC_OK)
             .extract()
@@ -23,14 +23,14 @@ public class BillPayPresentationRestClient extends RestClient {
     
     @PostConstruct
     public void init() {
-        setBaseUri(config.getPlatform().getGateway());
+        setBaseUri(config.getPlatform().getGateway(), config.getPlatform().getConnectionPool());
         setVersion(SERVICE_VERSION);
         setInitialPath(BILLPAY_PRESENTATION_SERVICE);
     }
     
     public Response enrolUser() {
-        return requestSpec()
-                        .post(getPath(ENDPOINT_ENROL));
+        return send(requestSpec -> requestSpec
+                        .post(getPath(ENDPOINT_ENROL)));
     }
 
 }
@@ -0,0 +1,160 @@
+package com.backbase.ct.bbfuel.client.common;
+
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_HTTP_CIRCUIT_BREAKER_FAILURE_THRESHOLD;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_HTTP_CIRCUIT_BREAKER_OPEN_SECONDS;
+import static org.apache.http.HttpStatus.SC_BAD_GATEWAY;
+import static org.apache.http.HttpStatus.SC_GATEWAY_TIMEOUT;
+import static org.apache.http.HttpStatus.SC_SERVICE_UNAVAILABLE;
+
+import com.backbase.ct.bbfuel.util.GlobalProperties;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fails the requests towards a service that is down fast, instead of letting each of them wait for a connection or
+ * response. The circuit opens after {@code http.circuit.breaker.failure.threshold} requests in a row failed without
+ * response or were answered with 502, 503 or 504. While open, requests are rejected with a
+ * {@link CircuitOpenException}. After {@code http.circuit.breaker.open.seconds} a single request is let through to
+ * probe the service (half open): the circuit closes when it succeeds and opens again when it fails. Requests that were
+ * let through before do not decide on the circuit meanwhile.
+ * <p>
+ * There is one circuit breaker per service, the base uri and initial path of a {@link RestClient}. Clients addressing
+ * the gateway share its base uri, so a circuit per base uri would cut off every capability behind it.
+ */
+public class CircuitBreaker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private static final Map<String, CircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+    private enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String service;
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedNanos;
+    private boolean probing;
+    private int timesOpened;
+    private long rejected;
+
+    CircuitBreaker(String service, int failureThreshold, long openSeconds) {
+        this.service = service;
+        this.failureThreshold = Math.max(failureThreshold, 1);
+        this.openNanos = TimeUnit.SECONDS.toNanos(openSeconds);
+    }
+
+    /**
+     * @return the circuit breaker of the given service, created with the configured settings when first asked for.
+     */
+    public static CircuitBreaker forService(String service) {
+        return BREAKERS.computeIfAbsent(service, name -> {
+            GlobalProperties globalProperties = GlobalProperties.getInstance();
+            return new CircuitBreaker(name,
+                globalProperties.getInt(PROPERTY_HTTP_CIRCUIT_BREAKER_FAILURE_THRESHOLD),
+                globalProperties.getLong(PROPERTY_HTTP_CIRCUIT_BREAKER_OPEN_SECONDS));
+        });
+    }
+
+    /**
+     * @return the number of requests failed fast per service whose circuit opened during the run.
+     */
+    public static Map<String, Long> getRejected() {
+        Map<String, Long> rejected = new TreeMap<>();
+        BREAKERS.forEach((service, breaker) -> {
+            synchronized (breaker) {
+                if (breaker.timesOpened > 0) {
+                    rejected.put(service, breaker.rejected);
+                }
+            }
+        });
+        return rejected;
+    }
+
+    public static void logRejected() {
+        getRejected().forEach((service, rejected) -> LOGGER.warn(
+            "Service [{}] was unavailable during the run, {} requests to it were skipped", service, rejected));
+    }
+
+    public synchronized boolean isOpen() {
+        return state != State.CLOSED;
+    }
+
+    /**
+     * Check that a request can be made, and make it the probe when the circuit is half open.
+     *
+     * @return the attempt to record the outcome of the request with
+     * @throws CircuitOpenException when the circuit is open
+     */
+    public synchronized Attempt acquire() {
+        if (state == State.OPEN && System.nanoTime() - openedNanos >= openNanos) {
+            state = State.HALF_OPEN;
+            probing = false;
+        }
+        if (state == State.OPEN || state == State.HALF_OPEN && probing) {
+            rejected++;
+            throw new CircuitOpenException(service);
+        }
+        if (state == State.HALF_OPEN) {
+            probing = true;
+            LOGGER.info("Probing service [{}]", service);
+            return new Attempt(true);
+        }
+        return new Attempt(false);
+    }
+
+    /**
+     * Record the outcome of a request let through. While the circuit is open, outcomes are ignored. While it is half
+     * open, only the outcome of the probe counts.
+     */
+    private synchronized void record(Attempt attempt, int statusCode) {
+        boolean failed = statusCode < 0 || statusCode == SC_BAD_GATEWAY || statusCode == SC_SERVICE_UNAVAILABLE
+            || statusCode == SC_GATEWAY_TIMEOUT;
+        if (state == State.OPEN || state == State.HALF_OPEN && !attempt.probe) {
+            return;
+        }
+        if (!failed) {
+            consecutiveFailures = 0;
+            if (state == State.HALF_OPEN) {
+                state = State.CLOSED;
+                LOGGER.info("Circuit of service [{}] closed, the service is available again", service);
+            }
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedNanos = System.nanoTime();
+            timesOpened++;
+            LOGGER.warn("Circuit of service [{}] opened after {} failed requests, requests fail fast for {} seconds",
+                service, consecutiveFailures, TimeUnit.NANOSECONDS.toSeconds(openNanos));
+        }
+    }
+
+    /**
+     * A request let through.
+     */
+    public final class Attempt {
+
+        private final boolean probe;
+
+        private Attempt(boolean probe) {
+            this.probe = probe;
+        }
+
+        /**
+         * @param statusCode status code of the response, or -1 when the request failed without response
+         */
+        public void record(int statusCode) {
+            CircuitBreaker.this.record(this, statusCode);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.backbase.ct.bbfuel.client.common;
+
+import com.backbase.ct.bbfuel.IngestException;
+
+/**
+ * Thrown instead of making a request to a service whose {@link CircuitBreaker} is open.
+ */
+public class CircuitOpenException extends IngestException {
+
+    public CircuitOpenException(String service) {
+        super("Service [" + service + "] is unavailable, request skipped");
+    }
+}
@@ -0,0 +1,170 @@
+package com.backbase.ct.bbfuel.client.common;
+
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_HTTP_LIMITER_BACKOFF_RATIO;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_HTTP_LIMITER_INITIAL_LIMIT;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_HTTP_LIMITER_LATENCY_TOLERANCE;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_HTTP_LIMITER_MAX_LIMIT;
+import static org.apache.http.HttpStatus.SC_SERVICE_UNAVAILABLE;
+
+import com.backbase.ct.bbfuel.util.GlobalProperties;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the number of requests in flight towards a service, adapting the limit to how the service copes with the
+ * load (additive increase, multiplicative decrease). The limit grows by one for every request that succeeds while
+ * the limit is used for at least half. It is cut by {@code http.limiter.backoff.ratio} when a request is answered
+ * with 429 or 503, fails without response or takes more than {@code http.limiter.latency.tolerance} times the usual
+ * latency of the service. Only requests started after the previous cut can cut the limit again, so a single burst
+ * of failures cuts it once.
+ * <p>
+ * There is one limiter per service, the base uri and initial path of a {@link RestClient}.
+ */
+public class ConcurrencyLimiter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrencyLimiter.class);
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+    private static final int MIN_LIMIT = 1;
+    private static final double LATENCY_SMOOTHING = 0.05;
+
+    private static final Map<String, ConcurrencyLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    private final String service;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private double usualLatencyNanos;
+    private long lastCutNanos = System.nanoTime();
+
+    ConcurrencyLimiter(String service, int initialLimit, int maxLimit, double backoffRatio,
+        double latencyTolerance) {
+        this.service = service;
+        this.maxLimit = Math.max(maxLimit, MIN_LIMIT);
+        this.limit = Math.min(Math.max(initialLimit, MIN_LIMIT), this.maxLimit);
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    /**
+     * @return the limiter of the given service, created with the configured limits when first asked for.
+     */
+    public static ConcurrencyLimiter forService(String service) {
+        return LIMITERS.computeIfAbsent(service, name -> {
+            GlobalProperties globalProperties = GlobalProperties.getInstance();
+            return new ConcurrencyLimiter(name,
+                globalProperties.getInt(PROPERTY_HTTP_LIMITER_INITIAL_LIMIT),
+                globalProperties.getInt(PROPERTY_HTTP_LIMITER_MAX_LIMIT),
+                Double.parseDouble(globalProperties.getString(PROPERTY_HTTP_LIMITER_BACKOFF_RATIO)),
+                Double.parseDouble(globalProperties.getString(PROPERTY_HTTP_LIMITER_LATENCY_TOLERANCE)));
+        });
+    }
+
+    /**
+     * @return the current limit per service.
+     */
+    public static Map<String, Integer> getLimits() {
+        Map<String, Integer> limits = new TreeMap<>();
+        LIMITERS.forEach((service, limiter) -> limits.put(service, limiter.getLimit()));
+        return limits;
+    }
+
+    public static void logLimits() {
+        getLimits().forEach((service, limit) -> LOGGER.info("Concurrency limit of [{}] is {}", service, limit));
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until a request can be made within the limit.
+     *
+     * @return the permit to release once the request is answered
+     */
+    public Permit acquire() {
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                available.awaitUninterruptibly();
+            }
+            inFlight++;
+            return new Permit(System.nanoTime(), inFlight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(Permit permit, int statusCode) {
+        long latencyNanos = System.nanoTime() - permit.startNanos;
+        boolean overloaded = statusCode < 0 || statusCode == SC_TOO_MANY_REQUESTS
+            || statusCode == SC_SERVICE_UNAVAILABLE;
+        boolean slow = false;
+
+        lock.lock();
+        try {
+            inFlight--;
+            if (!overloaded) {
+                slow = usualLatencyNanos > 0 && latencyNanos > usualLatencyNanos * latencyTolerance;
+                usualLatencyNanos = usualLatencyNanos == 0 ? latencyNanos
+                    : usualLatencyNanos + LATENCY_SMOOTHING * (latencyNanos - usualLatencyNanos);
+            }
+            if ((overloaded || slow) && permit.startNanos - lastCutNanos > 0) {
+                limit = Math.max(MIN_LIMIT, limit * backoffRatio);
+                lastCutNanos = System.nanoTime();
+                LOGGER.info("Concurrency limit of [{}] cut to {} after a {} response in {} ms", service, (int) limit,
+                    statusCode < 0 ? "missing" : String.valueOf(statusCode), latencyNanos / 1_000_000);
+            } else if (!overloaded && !slow && permit.inFlight * 2 >= limit && limit < maxLimit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A request in flight.
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlight;
+
+        private Permit(long startNanos, int inFlight) {
+            this.startNanos = startNanos;
+            this.inFlight = inFlight;
+        }
+
+        /**
+         * @param statusCode status code of the response, or -1 when the request failed without response
+         */
+        public void release(int statusCode) {
+            ConcurrencyLimiter.this.release(this, statusCode);
+        }
+    }
+}
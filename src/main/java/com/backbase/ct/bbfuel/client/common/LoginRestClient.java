@@ -1,34 +1,146 @@
 package com.backbase.ct.bbfuel.client.common;
 
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_LOGIN_SESSION_PREWARM;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_LOGIN_SESSION_TTL_SECONDS;
+
 import com.backbase.ct.bbfuel.config.BbFuelConfiguration;
+import com.backbase.ct.bbfuel.util.IngestExecutor;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import io.restassured.response.ValidatableResponse;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+/**
+ * Logs users in with the form login of the auth server. The cookies of a login are kept per user for
+ * {@code login.session.ttl.seconds} and handed to every session that logs in as that user meanwhile, instead of
+ * logging in again. A session whose request is rejected with 401 logs in again, see
+ * {@link RestClient#setReauthentication(java.util.function.Consumer)}.
+ * <p>
+ * The login of a user is made outside of the map of logins, so logins of other users are not held up by it. Sessions
+ * logging in as the same user meanwhile wait for it and share it.
+ */
 @Component
 @RequiredArgsConstructor
 public class LoginRestClient extends RestClient {
 
     private final BbFuelConfiguration config;
 
+    private final IngestExecutor ingestExecutor;
+
+    private final Map<String, Supplier<Login>> logins = new ConcurrentHashMap<>();
+
+    private long ttlNanos;
+
     @PostConstruct
     public void init() {
-        setBaseUri(config.getPlatform().getAuth());
+        setBaseUri(config.getPlatform().getAuth(), config.getPlatform().getConnectionPool());
+        ttlNanos = TimeUnit.SECONDS.toNanos(globalProperties.getLong(PROPERTY_LOGIN_SESSION_TTL_SECONDS));
+        setReauthentication(this::reauthenticate);
     }
 
     public void login(String username, String password) {
-        ValidatableResponse response = requestSpec().param("username", username)
+        Supplier<Login> entry = logins.get(username);
+        Login login = entry == null ? null : entry.get();
+        if (login == null || login.isExpired()) {
+            login = renewLogin(username, password, entry);
+        }
+        useLogin(username, login);
+    }
+
+    /**
+     * Log the given users in ahead of a phase that drives them, when {@code login.session.prewarm} is set. Users are
+     * logged in concurrently, their sessions are picked up by {@link #login(String, String)}. Only users whose
+     * username is their password can be logged in this way.
+     */
+    public void prewarm(Collection<String> usernames) {
+        if (ttlNanos <= 0 || !globalProperties.getBoolean(PROPERTY_LOGIN_SESSION_PREWARM)) {
+            return;
+        }
+        ingestExecutor.forEach(usernames, username ->
+            SessionContext.runInNewSession(() -> login(username, username)));
+    }
+
+    @Override
+    protected boolean isReauthenticating() {
+        return false;
+    }
+
+    /**
+     * Log the user of the session in again, unless another session of that user did so since the session got the
+     * rejected login.
+     */
+    private void reauthenticate(UserSession session) {
+        String username = session.getUsername();
+        Object sessionLogin = session.getLogin();
+        if (!(sessionLogin instanceof Login)) {
+            return;
+        }
+        Login rejected = (Login) sessionLogin;
+        Supplier<Login> entry = logins.get(username);
+        Login login = entry == null ? null : entry.get();
+        if (login == null || login == rejected) {
+            login = renewLogin(username, rejected.password, entry);
+        }
+        useLogin(username, login);
+    }
+
+    /**
+     * Replace the given login of the user with a new one, unless another session did so already, then log in unless
+     * that session is doing so.
+     *
+     * @param stale the entry of the login to replace, null when there is none
+     */
+    private Login renewLogin(String username, String password, Supplier<Login> stale) {
+        return logins.compute(username, (name, current) -> current == stale
+            ? Suppliers.memoize(() -> postLogin(username, password))
+            : current)
+            .get();
+    }
+
+    private Login postLogin(String username, String password) {
+        ValidatableResponse response = send(requestSpec -> requestSpec.param("username", username)
             .param("password", password)
             .param("submit", "Login")
-            .post("").then();
+            .post("")).then();
 
         response.assertThat().statusCode(200);
 
-        Map<String, String> cookies = new HashMap<>(response.extract().cookies());
-        setUpCookies(cookies);
+        return new Login(new HashMap<>(response.extract().cookies()), password,
+            ttlNanos > 0 ? System.nanoTime() + ttlNanos : System.nanoTime());
+    }
+
+    /**
+     * Set the cookies of the login, unless the session has them already. Then the user context selected in the
+     * session is kept as well.
+     */
+    private static void useLogin(String username, Login login) {
+        if (SessionContext.current().renew(username, login)) {
+            setUpCookies(login.cookies);
+        }
     }
 
+    private static final class Login {
+
+        private final Map<String, String> cookies;
+        private final String password;
+        private final long expiresAt;
+
+        private Login(Map<String, String> cookies, String password, long expiresAt) {
+            this.cookies = Collections.unmodifiableMap(cookies);
+            this.password = password;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAt >= 0;
+        }
+    }
 }
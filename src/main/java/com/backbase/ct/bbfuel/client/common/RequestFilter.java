@@ -0,0 +1,58 @@
+package com.backbase.ct.bbfuel.client.common;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Makes a single attempt of a request of a {@link RestClient}. Making a request again is up to
+ * {@link RestClient#send}, as rest assured sends a request once per filter chain.
+ * <ul>
+ * <li>The attempt is rejected while the {@link CircuitBreaker} of the service is open, when given.</li>
+ * <li>The attempt waits for a permit of the {@link ConcurrencyLimiter} of the service, when given.</li>
+ * </ul>
+ * Failures without response are rethrown unchecked, those of the connection wrapped in an
+ * {@link UncheckedIOException}.
+ */
+class RequestFilter implements Filter {
+
+    private final CircuitBreaker circuitBreaker;
+    private final ConcurrencyLimiter limiter;
+
+    RequestFilter(CircuitBreaker circuitBreaker, ConcurrencyLimiter limiter) {
+        this.circuitBreaker = circuitBreaker;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+        FilterContext context) {
+        CircuitBreaker.Attempt attempt = circuitBreaker == null ? null : circuitBreaker.acquire();
+        ConcurrencyLimiter.Permit permit = limiter == null ? null : limiter.acquire();
+        int statusCode = -1;
+        try {
+            Response response = context.next(requestSpec, responseSpec);
+            statusCode = response.statusCode();
+            return response;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // the http client throws checked exceptions undeclared
+            if (e instanceof IOException) {
+                throw new UncheckedIOException((IOException) e);
+            }
+            throw new IllegalStateException(e);
+        } finally {
+            if (permit != null) {
+                permit.release(statusCode);
+            }
+            if (attempt != null) {
+                attempt.record(statusCode);
+            }
+        }
+    }
+}
@@ -1,19 +1,27 @@
 package com.backbase.ct.bbfuel.client.common;
 
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_HTTP_ASYNC_MAX_IN_FLIGHT;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_HTTP_CIRCUIT_BREAKER_ENABLED;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_HTTP_LIMITER_ENABLED;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_LOG_ALL_REQUESTS_RESPONSES;
-import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_MULTI_TENANCY_ENVIRONMENT;
-import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_TENANT_ID;
 import static io.restassured.config.HttpClientConfig.httpClientConfig;
+import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
+import static org.apache.http.HttpStatus.SC_CONFLICT;
 import static org.apache.http.HttpStatus.SC_OK;
+import static org.apache.http.HttpStatus.SC_UNAUTHORIZED;
 
+import com.backbase.ct.bbfuel.config.ConnectionPoolConfig;
 import com.backbase.ct.bbfuel.util.GlobalProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.restassured.RestAssured;
 import io.restassured.config.LogConfig;
 import io.restassured.config.ObjectMapperConfig;
 import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
 import io.restassured.filter.log.RequestLoggingFilter;
 import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
@@ -23,16 +31,29 @@ import io.restassured.internal.ResponseSpecificationImpl;
 import io.restassured.internal.TestSpecificationImpl;
 import io.restassured.internal.log.LogRepository;
 import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
 import io.restassured.specification.RequestSpecification;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Usage example:
@@ -61,22 +82,60 @@ import lombok.Setter;
 @NoArgsConstructor
 public class RestClient {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(RestClient.class);
     private static final String PARAMETER_NAME = "CONNECTION_MANAGER_TIMEOUT";
     private static final int TIMEOUT_VALUE = 10000;
     private static final String DEFAULT_HEALTH_PATH = "/production-support/health";
     private static final String SERVER_STATUS_UP = "UP";
     private static final String TENANT_HEADER_NAME = "X-TID";
+    private static final String XSRF_TOKEN_PARAMETER = "_csrf";
+    private static final String METHOD_POST = "POST";
+    private static final String METHOD_PATCH = "PATCH";
 
     protected static GlobalProperties globalProperties = GlobalProperties.getInstance();
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+        .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /**
+     * Configurations per host (scheme, host and port), each reusing one pooled http client.
+     */
+    private static final Map<String, RestAssuredConfig> restAssuredConfigs = new ConcurrentHashMap<>();
+
+    /**
+     * Dedicated to the requests of the asynchronous variants, so the number of requests in flight does not depend on
+     * the number of cores like it does on the common fork join pool.
+     */
+    private static final ExecutorService asyncRequestExecutor = Executors.newFixedThreadPool(
+        globalProperties.getInt(PROPERTY_HTTP_ASYNC_MAX_IN_FLIGHT),
+        new ThreadFactoryBuilder().setNameFormat("bb-fuel-http-%d").setDaemon(true).build());
+
+    private static final boolean LIMITER_ENABLED = globalProperties.getBoolean(PROPERTY_HTTP_LIMITER_ENABLED);
+
+    private static final boolean CIRCUIT_BREAKER_ENABLED =
+        globalProperties.getBoolean(PROPERTY_HTTP_CIRCUIT_BREAKER_ENABLED);
+
+    /**
+     * Logs the user of a session in again, set by the {@link LoginRestClient}.
+     */
+    private static volatile Consumer<UserSession> reauthentication;
+
+    /**
+     * Selects the master service agreement as user context again after logging in again, set by the
+     * {@code UserContextPresentationRestClient}.
+     */
+    private static volatile Runnable contextSelection;
+
     @Getter
     private URI baseURI = null;
+    private volatile Filter requestFilter;
+    private volatile RetryPolicy retryPolicy;
     private RestAssuredConfig restAssuredConfig;
     private String initialPath = "";
     @Setter
     private String version;
 
-    private static Map<String, String> cookiesJar = new LinkedHashMap<>();
     private final ResponseParserRegistrar responseParserRegistrar = new ResponseParserRegistrar();
 
     public RestClient setInitialPath(String initialPath) {
@@ -108,14 +167,8 @@ public class RestClient {
     }
 
     public RequestSpecification requestSpec() {
+        // the log repository holds the request and response logs of this single request
         LogRepository logRepository = new LogRepository();
-        restAssuredConfig = RestAssuredConfig.config()
-            .objectMapperConfig(new ObjectMapperConfig().jackson2ObjectMapperFactory(
-                (aClass, s) -> new ObjectMapper().configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
-                    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-            ))
-            .logConfig(LogConfig.logConfig().enableLoggingOfRequestAndResponseIfValidationFails())
-            .httpClient(httpClientConfig().setParam(PARAMETER_NAME, TIMEOUT_VALUE));
 
         RequestSpecification requestSpec = new TestSpecificationImpl(
             new RequestSpecificationImpl(getBaseURI().toString(),
@@ -127,40 +180,262 @@ public class RestClient {
 
         setLoggingFilters(requestSpec);
 
-        requestSpec.queryParam("_csrf", getCookies().get("XSRF-TOKEN"));
+        UserSession session = SessionContext.current();
+
+        requestSpec.queryParam(XSRF_TOKEN_PARAMETER, session.getXsrfToken());
 
-        requestSpec.cookies(getCookies());
+        requestSpec.cookies(session.getCookies());
 
-        if (globalProperties.getBoolean(PROPERTY_MULTI_TENANCY_ENVIRONMENT)) {
-            requestSpec.header(TENANT_HEADER_NAME, globalProperties.getString(PROPERTY_TENANT_ID));
+        if (session.getTenantId() != null) {
+            requestSpec.header(TENANT_HEADER_NAME, session.getTenantId());
         }
 
+        requestSpec.filter(getRequestFilter());
+
         return requestSpec;
     }
 
+    /**
+     * Make the request the given function makes with a new {@link #requestSpec()}. Every attempt gets a new request
+     * specification, as rest assured sends a request once. The request is made again:
+     * <ul>
+     * <li>once more after logging the user in again, when the request of a logged in session is rejected with 401, as
+     * the cookies of the session may have expired. A 403 means the user is not allowed to, so it is not made
+     * again;</li>
+     * <li>when it failed transiently and it is no post or patch, as decided by the {@link RetryPolicy} of the
+     * service.</li>
+     * </ul>
+     *
+     * @param request makes the request with the given specification, without handling its response
+     * @return the response of the last attempt
+     */
+    protected Response send(Function<RequestSpecification, Response> request) {
+        return send(request, false, null);
+    }
+
+    /**
+     * Like {@link #send(Function)}, for posts that can be made again when they failed transiently, such as posts of
+     * resources with an id generated by the client.
+     */
+    protected Response sendRetryable(Function<RequestSpecification, Response> request) {
+        return send(request, true, null);
+    }
+
+    /**
+     * Like {@link #sendRetryable(Function)}, for posts rejected when the resource they create exists. When an attempt
+     * made again is rejected with 400 or 409, the response to an earlier attempt may have got lost after it created the
+     * resource. The resource is looked up then, and the response of the lookup is returned when it is found.
+     *
+     * @param lookup gets the resource created by the request with the given specification
+     * @return the response of the last attempt, or of the lookup with status 200
+     */
+    protected Response sendRetryable(Function<RequestSpecification, Response> request,
+        Function<RequestSpecification, Response> lookup) {
+        return send(request, true, lookup);
+    }
+
+    private Response send(Function<RequestSpecification, Response> request, boolean retryingPosts,
+        Function<RequestSpecification, Response> lookup) {
+        RetryPolicy policy = getRetryPolicy();
+        policy.recordRequest();
+        boolean reauthenticated = !isReauthenticating();
+
+        for (int attempt = 1; ; attempt++) {
+            RequestSpecification requestSpec = requestSpec();
+            Response response = null;
+            RuntimeException failure = null;
+            try {
+                response = request.apply(requestSpec);
+            } catch (UncheckedIOException e) {
+                failure = e;
+            }
+            int statusCode = response == null ? -1 : response.statusCode();
+
+            if (!reauthenticated && statusCode == SC_UNAUTHORIZED) {
+                reauthenticated = true;
+                if (reauthenticate()) {
+                    attempt--;
+                    continue;
+                }
+            }
+
+            String method = ((FilterableRequestSpecification) requestSpec).getMethod();
+            if (lookup != null && attempt > 1 && (statusCode == SC_BAD_REQUEST || statusCode == SC_CONFLICT)) {
+                Response found = send(lookup);
+                if (found.statusCode() == SC_OK) {
+                    LOGGER.info("{} {}{} made again was rejected with {}, an earlier attempt created the resource",
+                        method, getBaseURI(), getInitialPath(), statusCode);
+                    return found;
+                }
+                return response;
+            }
+            boolean retrying = (retryingPosts || !METHOD_POST.equals(method) && !METHOD_PATCH.equals(method))
+                && RetryPolicy.isTransient(statusCode) && policy.tryRetry(attempt);
+            if (!retrying || !backOff(policy, attempt)) {
+                if (failure != null) {
+                    throw failure;
+                }
+                return response;
+            }
+            LOGGER.info("Retrying {} {}{} after a {} response, attempt {} of {}", method, getBaseURI(),
+                getInitialPath(), statusCode < 0 ? "missing" : String.valueOf(statusCode), attempt + 1,
+                policy.getMaxAttempts());
+        }
+    }
+
+    /**
+     * Make the request asynchronously on behalf of the session of the caller.
+     *
+     * @param request blocking request, including the handling of its response
+     * @return future completing with the outcome of the request
+     */
+    protected <T> CompletableFuture<T> supplyAsync(Supplier<T> request) {
+        UserSession session = SessionContext.current();
+        return CompletableFuture.supplyAsync(() -> SessionContext.callInSession(session, request), asyncRequestExecutor);
+    }
+
+    /**
+     * Serialize a request body to json bytes with the object mapper of the clients. Rest assured sends bytes as they
+     * are, so large bodies are not converted to a string on the way.
+     */
+    protected static byte[] toJsonBytes(Object body) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Could not serialize request body", e);
+        }
+    }
+
+    /**
+     * Requests are made by a {@link RequestFilter} with the {@link CircuitBreaker} and {@link ConcurrencyLimiter} of
+     * the service of this client, identified by the base uri and initial path. These are looked up once the client is
+     * set up, with the first request, like the {@link RetryPolicy}.
+     */
+    private Filter getRequestFilter() {
+        Filter filter = requestFilter;
+        if (filter == null) {
+            String service = getService();
+            filter = new RequestFilter(CIRCUIT_BREAKER_ENABLED ? CircuitBreaker.forService(service) : null,
+                LIMITER_ENABLED ? ConcurrencyLimiter.forService(service) : null);
+            requestFilter = filter;
+        }
+        return filter;
+    }
+
+    private RetryPolicy getRetryPolicy() {
+        RetryPolicy policy = retryPolicy;
+        if (policy == null) {
+            policy = RetryPolicy.forService(getService());
+            retryPolicy = policy;
+        }
+        return policy;
+    }
+
+    private String getService() {
+        return getBaseURI() + getInitialPath();
+    }
+
+    /**
+     * @return false when interrupted while waiting, then the request is not made again
+     */
+    private static boolean backOff(RetryPolicy policy, int attempt) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(policy.backoffMillis(attempt));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Log the user of the session of the current task in again. The user context the session had is selected again,
+     * as logging in again forgets it.
+     *
+     * @return whether the user is logged in again
+     */
+    private static boolean reauthenticate() {
+        UserSession session = SessionContext.current();
+        Consumer<UserSession> relogin = reauthentication;
+        if (relogin == null || !session.isLoggedIn()) {
+            return false;
+        }
+        String serviceAgreementId = session.getServiceAgreementId();
+        relogin.accept(session);
+        Runnable selection = contextSelection;
+        if (serviceAgreementId != null && session.getServiceAgreementId() == null && selection != null) {
+            selection.run();
+        }
+        return true;
+    }
+
+    /**
+     * @return whether requests of this client that are rejected as unauthenticated are made again after logging in.
+     */
+    protected boolean isReauthenticating() {
+        return true;
+    }
+
+    protected static void setReauthentication(Consumer<UserSession> reauthentication) {
+        RestClient.reauthentication = reauthentication;
+    }
+
+    protected static void setContextSelection(Runnable contextSelection) {
+        RestClient.contextSelection = contextSelection;
+    }
+
+    /**
+     * Store the cookies in the session of the current task, see {@link SessionContext}.
+     */
     protected static void setUpCookies(Map<String, String> cookies) {
-        cookiesJar.putAll(cookies);
+        SessionContext.current().addCookies(cookies);
     }
 
     protected void setBaseUri(String baseUri) {
+        setBaseUri(baseUri, new ConnectionPoolConfig());
+    }
+
+    /**
+     * Set the base uri and attach this client to the connection pool of its host. The pool is created with the given
+     * settings by the first client addressing the host, later clients share it.
+     */
+    protected void setBaseUri(String baseUri, ConnectionPoolConfig connectionPool) {
         try {
             this.baseURI = new URI(baseUri);
         } catch (URISyntaxException e) {
             throw new RuntimeException("An error occurred while creating RestClient, 'baseUri' is incorrect", e);
         }
+        this.restAssuredConfig = restAssuredConfigs.computeIfAbsent(
+            this.baseURI.getScheme() + "://" + this.baseURI.getAuthority(),
+            host -> createRestAssuredConfig(connectionPool));
     }
 
-    private Map<String, String> getCookies() {
-        return cookiesJar;
+    /**
+     * The http client is reused for all requests made with the returned config, so its pooling connection manager keeps
+     * connections alive, including their TLS sessions. Cookies are ignored by the http client itself (the rest assured
+     * default), they are sent explicitly from the {@link UserSession}.
+     */
+    private static RestAssuredConfig createRestAssuredConfig(ConnectionPoolConfig connectionPool) {
+        PoolingClientConnectionManager connectionManager = new PoolingClientConnectionManager();
+        connectionManager.setMaxTotal(connectionPool.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(connectionPool.getMaxPerRoute());
+
+        return RestAssuredConfig.config()
+            .objectMapperConfig(new ObjectMapperConfig().jackson2ObjectMapperFactory((aClass, s) -> OBJECT_MAPPER))
+            .logConfig(LogConfig.logConfig().enableLoggingOfRequestAndResponseIfValidationFails())
+            .httpClient(httpClientConfig()
+                .setParam(PARAMETER_NAME, TIMEOUT_VALUE)
+                .httpClientFactory(() -> new DefaultHttpClient(connectionManager))
+                .reuseHttpClientInstance());
     }
 
     /**
      * @return Response containing information about the health of this service: https://docs.spring.io/spring-boot/docs/current/reference/html/production-ready-endpoints.html
      */
     private Response getHealth() {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
-            .get(DEFAULT_HEALTH_PATH);
+            .get(DEFAULT_HEALTH_PATH));
     }
 
     private void setLoggingFilters(RequestSpecification requestSpec) {
@@ -0,0 +1,116 @@
+package com.backbase.ct.bbfuel.client.common;
+
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_HTTP_RETRY_BACKOFF_MILLIS;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_HTTP_RETRY_BUDGET_MIN_RETRIES;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_HTTP_RETRY_BUDGET_RATIO;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_HTTP_RETRY_MAX_ATTEMPTS;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_HTTP_RETRY_MAX_BACKOFF_MILLIS;
+import static org.apache.http.HttpStatus.SC_BAD_GATEWAY;
+import static org.apache.http.HttpStatus.SC_GATEWAY_TIMEOUT;
+import static org.apache.http.HttpStatus.SC_SERVICE_UNAVAILABLE;
+
+import com.backbase.ct.bbfuel.util.GlobalProperties;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether a request that failed transiently is made again: a request answered with 429, 502, 503 or 504, or
+ * failed without response (a reset or refused connection for instance). A request is made at most
+ * {@code http.retry.max.attempts} times, waiting a random time up to an exponential backoff in between (full
+ * jitter) so concurrent requests do not retry in lockstep.
+ * <p>
+ * The retries per service are limited by a budget of {@code http.retry.budget.min.retries} plus
+ * {@code http.retry.budget.ratio} times the number of requests made, so a service that is down is not flooded with
+ * retries.
+ * <p>
+ * There is one policy per service, the base uri and initial path of a {@link RestClient}.
+ */
+public class RetryPolicy {
+
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+
+    private static final Map<String, RetryPolicy> POLICIES = new ConcurrentHashMap<>();
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final double budgetRatio;
+    private final int budgetMinRetries;
+
+    private long requests;
+    private long retries;
+
+    RetryPolicy(int maxAttempts, long backoffMillis, long maxBackoffMillis, double budgetRatio,
+        int budgetMinRetries) {
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.backoffMillis = Math.max(backoffMillis, 0);
+        this.maxBackoffMillis = Math.max(maxBackoffMillis, this.backoffMillis);
+        this.budgetRatio = budgetRatio;
+        this.budgetMinRetries = budgetMinRetries;
+    }
+
+    /**
+     * @return the policy of the given service, created with the configured settings when first asked for.
+     */
+    public static RetryPolicy forService(String service) {
+        return POLICIES.computeIfAbsent(service, name -> {
+            GlobalProperties globalProperties = GlobalProperties.getInstance();
+            return new RetryPolicy(
+                globalProperties.getInt(PROPERTY_HTTP_RETRY_MAX_ATTEMPTS),
+                globalProperties.getLong(PROPERTY_HTTP_RETRY_BACKOFF_MILLIS),
+                globalProperties.getLong(PROPERTY_HTTP_RETRY_MAX_BACKOFF_MILLIS),
+                Double.parseDouble(globalProperties.getString(PROPERTY_HTTP_RETRY_BUDGET_RATIO)),
+                globalProperties.getInt(PROPERTY_HTTP_RETRY_BUDGET_MIN_RETRIES));
+        });
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @param statusCode status code of the response, or -1 when the request failed without response
+     */
+    public static boolean isTransient(int statusCode) {
+        return statusCode < 0 || statusCode == SC_TOO_MANY_REQUESTS || statusCode == SC_BAD_GATEWAY
+            || statusCode == SC_SERVICE_UNAVAILABLE || statusCode == SC_GATEWAY_TIMEOUT;
+    }
+
+    /**
+     * Count a request made for the first time, which adds to the retry budget.
+     */
+    public synchronized void recordRequest() {
+        requests++;
+    }
+
+    /**
+     * Take a retry from the budget.
+     *
+     * @param attempt number of the attempt that failed, starting at 1
+     * @return whether the request is made again
+     */
+    public synchronized boolean tryRetry(int attempt) {
+        if (attempt >= maxAttempts || retries >= budgetMinRetries + budgetRatio * requests) {
+            return false;
+        }
+        retries++;
+        return true;
+    }
+
+    public synchronized long getRetries() {
+        return retries;
+    }
+
+    /**
+     * @param attempt number of the attempt that failed, starting at 1
+     * @return random number of milliseconds to wait before the next attempt, up to the exponential backoff
+     */
+    public long backoffMillis(int attempt) {
+        long backoff = maxBackoffMillis;
+        if (attempt - 1 < Long.numberOfLeadingZeros(backoffMillis) - 1) {
+            backoff = Math.min(maxBackoffMillis, backoffMillis << (attempt - 1));
+        }
+        return backoff == 0 ? 0 : ThreadLocalRandom.current().nextLong(backoff + 1);
+    }
+}
@@ -0,0 +1,70 @@
+package com.backbase.ct.bbfuel.client.common;
+
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_MULTI_TENANCY_ENVIRONMENT;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_TENANT_ID;
+
+import com.backbase.ct.bbfuel.util.GlobalProperties;
+import java.util.function.Supplier;
+
+/**
+ * Binds a {@link UserSession} to the current thread for the duration of a task. Every {@link RestClient} request
+ * picks up the cookies, XSRF token and tenant of the session bound to the thread making it.
+ * <p>
+ * Threads without a bound session share one default session, which keeps single threaded flows (login, select
+ * context, call) working as they always did. Work that is handed over to other threads should be wrapped with
+ * {@link #runInSession(UserSession, Runnable)} to keep acting as the same user.
+ */
+public final class SessionContext {
+
+    private static final GlobalProperties globalProperties = GlobalProperties.getInstance();
+    private static final UserSession DEFAULT_SESSION = newSession();
+    private static final ThreadLocal<UserSession> CURRENT_SESSION = new ThreadLocal<>();
+
+    private SessionContext() {
+    }
+
+    /**
+     * @return the session bound to the current thread, or the default session when none is bound.
+     */
+    public static UserSession current() {
+        UserSession session = CURRENT_SESSION.get();
+        return session == null ? DEFAULT_SESSION : session;
+    }
+
+    /**
+     * @return a new session that is not logged in, addressing the configured tenant on multi tenant environments.
+     */
+    public static UserSession newSession() {
+        return globalProperties.getBoolean(PROPERTY_MULTI_TENANCY_ENVIRONMENT)
+            ? new UserSession(globalProperties.getString(PROPERTY_TENANT_ID))
+            : new UserSession();
+    }
+
+    /**
+     * Run the task in a session of its own, isolated from the session of the caller.
+     */
+    public static void runInNewSession(Runnable task) {
+        runInSession(newSession(), task);
+    }
+
+    public static void runInSession(UserSession session, Runnable task) {
+        callInSession(session, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public static <T> T callInSession(UserSession session, Supplier<T> task) {
+        UserSession previous = CURRENT_SESSION.get();
+        CURRENT_SESSION.set(session);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                CURRENT_SESSION.remove();
+            } else {
+                CURRENT_SESSION.set(previous);
+            }
+        }
+    }
+}
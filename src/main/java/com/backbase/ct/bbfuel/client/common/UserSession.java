@@ -0,0 +1,96 @@
+package com.backbase.ct.bbfuel.client.common;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Authentication state of a single user towards the platform: the cookies handed out by the auth server and the
+ * user context endpoint (including the XSRF token), the service agreement selected as user context and the tenant
+ * the requests are made for.
+ * <p>
+ * Sessions are bound to the running task through {@link SessionContext}, so that different users can be driven
+ * concurrently without overwriting each other's cookies.
+ */
+public class UserSession {
+
+    private static final String XSRF_TOKEN_COOKIE = "XSRF-TOKEN";
+
+    private final Map<String, String> cookies = new ConcurrentHashMap<>();
+
+    @Getter
+    private final String tenantId;
+
+    @Getter
+    @Setter
+    private volatile String username;
+
+    @Getter
+    @Setter
+    private volatile String serviceAgreementId;
+
+    /**
+     * The login the cookies of this session come from. The service agreement selected as user context belongs to
+     * that login.
+     */
+    private Object login;
+
+    public UserSession() {
+        this(null);
+    }
+
+    public UserSession(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    /**
+     * @return a snapshot of the cookies of this session.
+     */
+    public Map<String, String> getCookies() {
+        return new HashMap<>(cookies);
+    }
+
+    public String getXsrfToken() {
+        return cookies.get(XSRF_TOKEN_COOKIE);
+    }
+
+    /**
+     * Merge the given cookies into this session, overwriting cookies with the same name.
+     */
+    public void addCookies(Map<String, String> newCookies) {
+        newCookies.forEach((name, value) -> {
+            if (value != null) {
+                cookies.put(name, value);
+            }
+        });
+    }
+
+    /**
+     * Mark this session as logged in as the given user with the given login. When that is another login than the
+     * session has, the selected user context is forgotten.
+     *
+     * @return whether the session is renewed, so the cookies of the login have to be set
+     */
+    public synchronized boolean renew(String username, Object login) {
+        if (this.login == login) {
+            return false;
+        }
+        this.login = login;
+        this.username = username;
+        this.serviceAgreementId = null;
+        return true;
+    }
+
+    /**
+     * @return the login the cookies of this session come from
+     */
+    synchronized Object getLogin() {
+        return login;
+    }
+
+    public boolean isLoggedIn() {
+        return username != null;
+    }
+}
@@ -20,15 +20,15 @@ public class ContactIntegrationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getDbs().getContactmanager());
+        setBaseUri(config.getDbs().getContactmanager(), config.getDbs().getConnectionPool());
         setVersion(SERVICE_VERSION);
     }
 
     public Response ingestContacts(ContactsBulkIngestionPostRequestBody body) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(body)
-            .post(getPath(ENDPOINT_CONTACTS));
+            .post(getPath(ENDPOINT_CONTACTS)));
     }
 
 }
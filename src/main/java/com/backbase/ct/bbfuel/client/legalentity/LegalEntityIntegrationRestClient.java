@@ -25,20 +25,20 @@ public class LegalEntityIntegrationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getDbs().getLegalentity());
+        setBaseUri(config.getDbs().getLegalentity(), config.getDbs().getConnectionPool());
         setVersion(SERVICE_VERSION);
     }
 
     public Response ingestLegalEntity(LegalEntitiesPostRequestBody body) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(body)
-            .post(getPath(ENDPOINT_LEGAL_ENTITIES));
+            .post(getPath(ENDPOINT_LEGAL_ENTITIES)));
     }
 
     public ServiceAgreementGetResponseBody getMasterServiceAgreementOfLegalEntity(String externalLegalEntityId) {
-        return requestSpec()
-            .get(String.format(getPath(ENDPOINT_SERVICE_AGREEMENTS_MASTER), externalLegalEntityId))
+        return send(requestSpec -> requestSpec
+            .get(String.format(getPath(ENDPOINT_SERVICE_AGREEMENTS_MASTER), externalLegalEntityId)))
             .then()
             .statusCode(SC_OK)
             .extract()
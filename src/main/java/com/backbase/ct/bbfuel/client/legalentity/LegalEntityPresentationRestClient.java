@@ -30,14 +30,14 @@ public class LegalEntityPresentationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getPlatform().getGateway());
+        setBaseUri(config.getPlatform().getGateway(), config.getPlatform().getConnectionPool());
         setVersion(SERVICE_VERSION);
         setInitialPath(LEGAL_ENTITY_PRESENTATION_SERVICE);
     }
 
     public List<LegalEntitiesGetResponseBody> retrieveLegalEntities() {
-        return asList(requestSpec()
-            .get(getPath(ENDPOINT_SUB_ENTITIES))
+        return asList(send(requestSpec -> requestSpec
+            .get(getPath(ENDPOINT_SUB_ENTITIES)))
             .then()
             .statusCode(SC_OK)
             .extract()
@@ -45,13 +45,13 @@ public class LegalEntityPresentationRestClient extends RestClient {
     }
 
     public Response retrieveLegalEntityByExternalId(String externalLegalEntityId) {
-        return requestSpec()
-            .get(String.format(getPath(ENDPOINT_EXTERNAL), externalLegalEntityId));
+        return send(requestSpec -> requestSpec
+            .get(String.format(getPath(ENDPOINT_EXTERNAL), externalLegalEntityId)));
     }
 
     public LegalEntityByIdGetResponseBody retrieveLegalEntityByLegalEntityId(String internalLegalEntityId) {
-        return requestSpec()
-            .get(getPath(ENDPOINT_LEGAL_ENTITIES + internalLegalEntityId))
+        return send(requestSpec -> requestSpec
+            .get(getPath(ENDPOINT_LEGAL_ENTITIES + internalLegalEntityId)))
             .then()
             .statusCode(SC_OK)
             .extract()
@@ -59,8 +59,8 @@ public class LegalEntityPresentationRestClient extends RestClient {
     }
 
     public ServiceAgreementGetResponseBody getMasterServiceAgreementOfLegalEntity(String internalLegalEntityId) {
-        return requestSpec()
-            .get(String.format(getPath(ENDPOINT_SERVICE_AGREEMENTS_MASTER), internalLegalEntityId))
+        return send(requestSpec -> requestSpec
+            .get(String.format(getPath(ENDPOINT_SERVICE_AGREEMENTS_MASTER), internalLegalEntityId)))
             .then()
             .statusCode(SC_OK)
             .extract()
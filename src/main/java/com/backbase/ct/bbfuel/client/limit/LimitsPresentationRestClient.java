@@ -24,23 +24,23 @@ public class LimitsPresentationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getPlatform().getGateway());
+        setBaseUri(config.getPlatform().getGateway(), config.getPlatform().getConnectionPool());
         setVersion(SERVICE_VERSION);
         setInitialPath(LIMITS_PRESENTATION_SERVICE);
     }
 
     public Response createPeriodicLimit(PeriodicLimitsPostRequestBody periodicLimitsPostRequestBody) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(periodicLimitsPostRequestBody)
-            .post(getPath(ENDPOINT_PERIODIC));
+            .post(getPath(ENDPOINT_PERIODIC)));
     }
 
     public Response createTransactionalLimit(TransactionalLimitsPostRequestBody transactionalLimitsPostRequestBody) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(transactionalLimitsPostRequestBody)
-            .post(getPath(ENDPOINT_TRANSACTIONAL));
+            .post(getPath(ENDPOINT_TRANSACTIONAL)));
     }
 
 }
@@ -28,43 +28,43 @@ public class MessagesPresentationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getPlatform().getGateway());
+        setBaseUri(config.getPlatform().getGateway(), config.getPlatform().getConnectionPool());
         setVersion(SERVICE_VERSION);
         setInitialPath(MESSAGES_PRESENTATION_SERVICE);
     }
 
     public Response postDraft(DraftsPostRequestBody body) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(body)
-            .post(getPath(ENDPOINT_DRAFTS));
+            .post(getPath(ENDPOINT_DRAFTS)));
     }
 
     public Response sendDraftRequest(String draftId) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body("{}")
-            .post(String.format(getPath(ENDPOINT_SEND_DRAFT_REQUEST), draftId));
+            .post(String.format(getPath(ENDPOINT_SEND_DRAFT_REQUEST), draftId)));
     }
 
     public Response postConversationDraft(ConversationDraftsPostRequestBody draft, String conversationId) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(draft)
-            .post(String.format(getPath(ENDPOINT_CONVERSATION_DRAFTS), conversationId));
+            .post(String.format(getPath(ENDPOINT_CONVERSATION_DRAFTS), conversationId)));
     }
 
     public Response getConversations() {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
-            .get(getPath(ENDPOINT_CONVERSATIONS));
+            .get(getPath(ENDPOINT_CONVERSATIONS)));
     }
 
     public Response postTopic(TopicsPostRequestBody topicsPostRequestBody) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(topicsPostRequestBody)
-            .post(getPath(ENDPOINT_TOPICS));
+            .post(getPath(ENDPOINT_TOPICS)));
     }
 
 }
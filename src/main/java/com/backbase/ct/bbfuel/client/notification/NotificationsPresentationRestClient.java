@@ -23,17 +23,17 @@ public class NotificationsPresentationRestClient extends RestClient {
     /** Create notifications base path. */
     @PostConstruct
     public void init() {
-        setBaseUri(config.getPlatform().getGateway());
+        setBaseUri(config.getPlatform().getGateway(), config.getPlatform().getConnectionPool());
         setVersion(SERVICE_VERSION);
         setInitialPath(NOTIFICATIONS_PRESENTATION_SERVICE);
     }
 
     /** Create notification. */
     public Response createNotification(NotificationsPostRequestBody body) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(body)
-            .post(getPath(ENDPOINT_NOTIFICATIONS));
+            .post(getPath(ENDPOINT_NOTIFICATIONS)));
     }
 
 }
@@ -5,6 +5,7 @@ import com.backbase.ct.bbfuel.config.BbFuelConfiguration;
 import com.backbase.dbs.presentation.paymentorder.rest.spec.v2.paymentorders.InitiatePaymentOrder;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
+import java.util.concurrent.CompletableFuture;
 import javax.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -21,16 +22,24 @@ public class PaymentOrderPresentationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getPlatform().getGateway());
+        setBaseUri(config.getPlatform().getGateway(), config.getPlatform().getConnectionPool());
         setVersion(SERVICE_VERSION);
         setInitialPath(PAYMENT_ORDER_PRESENTATION_SERVICE);
     }
 
+    /**
+     * Not made again when it failed transiently, as a payment order carries no id by which the service would recognize
+     * it being initiated twice.
+     */
     public Response initiatePaymentOrder(InitiatePaymentOrder body) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(body)
-            .post(getPath(ENDPOINT_PAYMENT_ORDERS));
+            .post(getPath(ENDPOINT_PAYMENT_ORDERS)));
+    }
+
+    public CompletableFuture<Response> initiatePaymentOrderAsync(InitiatePaymentOrder body) {
+        return supplyAsync(() -> initiatePaymentOrder(body));
     }
 
 }
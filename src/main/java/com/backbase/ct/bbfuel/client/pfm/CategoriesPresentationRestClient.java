@@ -23,14 +23,14 @@ public class CategoriesPresentationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getPlatform().getGateway());
+        setBaseUri(config.getPlatform().getGateway(), config.getPlatform().getConnectionPool());
         setVersion(SERVICE_VERSION);
         setInitialPath(CATEGORIES_MANAGEMENT_PRESENTATION_SERVICE);
     }
 
     public List<SubCategory> retrieveCategories() {
-        return asList(requestSpec()
-            .get(getPath(ENDPOINT_CATEGORIES))
+        return asList(send(requestSpec -> requestSpec
+            .get(getPath(ENDPOINT_CATEGORIES)))
             .then()
             .statusCode(SC_OK)
             .extract()
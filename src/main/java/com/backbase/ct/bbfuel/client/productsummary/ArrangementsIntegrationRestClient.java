@@ -2,6 +2,7 @@ package com.backbase.ct.bbfuel.client.productsummary;
 
 import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
 import static org.apache.http.HttpStatus.SC_CREATED;
+import static org.apache.http.HttpStatus.SC_OK;
 
 import com.backbase.buildingblocks.presentation.errors.BadRequestException;
 import com.backbase.ct.bbfuel.client.common.RestClient;
@@ -12,6 +13,7 @@ import com.backbase.integration.arrangement.rest.spec.v2.balancehistory.BalanceH
 import com.backbase.integration.arrangement.rest.spec.v2.products.ProductsPostRequestBody;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
+import java.util.concurrent.CompletableFuture;
 import javax.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,21 +33,35 @@ public class ArrangementsIntegrationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getDbs().getArrangements());
+        setBaseUri(config.getDbs().getArrangements(), config.getDbs().getConnectionPool());
         setVersion(SERVICE_VERSION);
     }
 
+    /**
+     * Ingest the arrangement, made again when failed transiently as it has an external id. When the arrangement was
+     * created by an attempt whose response got lost, the arrangement is looked up by its external id instead.
+     */
     public ArrangementsPostResponseBody ingestArrangement(ArrangementsPostRequestBody body) {
-        return requestSpec()
-            .contentType(ContentType.JSON)
-            .body(body)
-            .post(getPath(ENDPOINT_ARRANGEMENTS))
-            .then()
-            .statusCode(SC_CREATED)
+        Response response = sendRetryable(requestSpec -> requestSpec
+                .contentType(ContentType.JSON)
+                .body(body)
+                .post(getPath(ENDPOINT_ARRANGEMENTS)),
+            requestSpec -> requestSpec
+                .get(getPath(ENDPOINT_ARRANGEMENTS + "/" + body.getId())));
+
+        if (response.statusCode() != SC_OK) {
+            response.then()
+                .statusCode(SC_CREATED);
+        }
+        return response.then()
             .extract()
             .as(ArrangementsPostResponseBody.class);
     }
 
+    public CompletableFuture<ArrangementsPostResponseBody> ingestArrangementAsync(ArrangementsPostRequestBody body) {
+        return supplyAsync(() -> ingestArrangement(body));
+    }
+
     public void ingestProductAndLogResponse(ProductsPostRequestBody product) {
         Response response = ingestProduct(product);
 
@@ -67,16 +83,20 @@ public class ArrangementsIntegrationRestClient extends RestClient {
     }
 
     public Response ingestBalance(BalanceHistoryPostRequestBody balanceHistoryPostRequestBody) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(balanceHistoryPostRequestBody)
-            .post(getPath(ENDPOINT_BALANCE_HISTORY));
+            .post(getPath(ENDPOINT_BALANCE_HISTORY)));
+    }
+
+    public CompletableFuture<Response> ingestBalanceAsync(BalanceHistoryPostRequestBody balanceHistoryPostRequestBody) {
+        return supplyAsync(() -> ingestBalance(balanceHistoryPostRequestBody));
     }
 
     private Response ingestProduct(ProductsPostRequestBody body) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(body)
-            .post(getPath(ENDPOINT_PRODUCTS));
+            .post(getPath(ENDPOINT_PRODUCTS)));
     }
 }
@@ -32,14 +32,14 @@ public class ProductSummaryPresentationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getPlatform().getGateway());
+        setBaseUri(config.getPlatform().getGateway(), config.getPlatform().getConnectionPool());
         setVersion(SERVICE_VERSION);
         setInitialPath(PRODUCT_SUMMARY_PRESENTATION_SERVICE);
     }
 
     public Response getProductSummaryArrangements() {
-        return requestSpec()
-            .get(getPath(ENDPOINT_ARRANGEMENTS));
+        return send(requestSpec -> requestSpec
+            .get(getPath(ENDPOINT_ARRANGEMENTS)));
     }
 
     public List<ArrangementsByBusinessFunctionGetResponseBody> getSepaCtArrangements() {
@@ -82,7 +82,7 @@ public class ProductSummaryPresentationRestClient extends RestClient {
     }
 
     private Response getProductSummaryContextArrangements(ProductSummaryQueryParameters queryParameters) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .queryParam("businessFunction", queryParameters.getBusinessFunction())
             .queryParam("resourceName", queryParameters.getResourceName())
             .queryParam("privilege", queryParameters.getPrivilege())
@@ -94,7 +94,7 @@ public class ProductSummaryPresentationRestClient extends RestClient {
             .queryParam("orderBy", queryParameters.getOrderBy())
             .queryParam("direction", queryParameters.getDirection())
             .queryParam("searchTerm", queryParameters.getSearchTerm())
-            .get(getPath(ENDPOINT_CONTEXT_ARRANGEMENTS));
+            .get(getPath(ENDPOINT_CONTEXT_ARRANGEMENTS)));
     }
 
 }
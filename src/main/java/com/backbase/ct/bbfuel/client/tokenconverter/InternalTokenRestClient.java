@@ -23,14 +23,14 @@ public class InternalTokenRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(getProperTokenConverterServiceUri());
+        setBaseUri(getProperTokenConverterServiceUri(), config.getPlatform().getConnectionPool());
     }
 
     public String getAuthorisationHeaderForInternalRequest() {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .header(CONTENT_TYPE_HEADER_NAME, CONTENT_TYPE_HEADER_VALUE)
             .body(HARDCODED_BODY)
-            .post(INTERNAL_TOKEN_POST_URL)
+            .post(INTERNAL_TOKEN_POST_URL))
             .then()
             .extract()
             .body()
@@ -6,6 +6,7 @@ import com.backbase.integration.transaction.external.rest.spec.v2.transactions.T
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import javax.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -21,15 +22,24 @@ public class TransactionsIntegrationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getDbs().getTransactions());
+        setBaseUri(config.getDbs().getTransactions(), config.getDbs().getConnectionPool());
         setVersion(SERVICE_VERSION);
     }
 
+    /**
+     * Ingest a batch of transactions. The batch is not made again when failed transiently: part of it may have been
+     * stored, and there is no lookup to tell which transactions of the batch exist.
+     */
     public Response ingestTransactions(List<TransactionsPostRequestBody> transactionsPostRequestBodies) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
-            .body(transactionsPostRequestBodies)
-            .post(getPath(ENDPOINT_TRANSACTIONS));
+            .body(toJsonBytes(transactionsPostRequestBodies))
+            .post(getPath(ENDPOINT_TRANSACTIONS)));
+    }
+
+    public CompletableFuture<Response> ingestTransactionsAsync(
+        List<TransactionsPostRequestBody> transactionsPostRequestBodies) {
+        return supplyAsync(() -> ingestTransactions(transactionsPostRequestBodies));
     }
 
 }
@@ -9,6 +9,7 @@ import com.backbase.ct.bbfuel.config.BbFuelConfiguration;
 import com.backbase.integration.user.rest.spec.v2.users.UsersPostRequestBody;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
+import java.util.concurrent.CompletableFuture;
 import javax.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,7 +26,7 @@ public class UserIntegrationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getDbs().getUser());
+        setBaseUri(config.getDbs().getUser(), config.getDbs().getConnectionPool());
         setVersion(SERVICE_VERSION);
     }
 
@@ -48,10 +49,17 @@ public class UserIntegrationRestClient extends RestClient {
         }
     }
 
+    public CompletableFuture<Void> ingestUserAndLogResponseAsync(UsersPostRequestBody user) {
+        return supplyAsync(() -> {
+            ingestUserAndLogResponse(user);
+            return null;
+        });
+    }
+
     private Response ingestUser(UsersPostRequestBody body) {
-        return requestSpec()
+        return send(requestSpec -> requestSpec
             .contentType(ContentType.JSON)
             .body(body)
-            .post(getPath(ENDPOINT_USERS));
+            .post(getPath(ENDPOINT_USERS)));
     }
 }
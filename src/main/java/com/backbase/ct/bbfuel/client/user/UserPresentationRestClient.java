@@ -24,14 +24,14 @@ public class UserPresentationRestClient extends RestClient {
 
     @PostConstruct
     public void init() {
-        setBaseUri(config.getPlatform().getGateway());
+        setBaseUri(config.getPlatform().getGateway(), config.getPlatform().getConnectionPool());
         setVersion(SERVICE_VERSION);
         setInitialPath(USER_PRESENTATION_SERVICE);
     }
 
     public LegalEntityByUserGetResponseBody retrieveLegalEntityByExternalUserId(String externalUserId) {
-        return requestSpec()
-            .get(String.format(getPath(ENDPOINT_EXTERNAL_ID_LEGAL_ENTITIES), externalUserId))
+        return send(requestSpec -> requestSpec
+            .get(String.format(getPath(ENDPOINT_EXTERNAL_ID_LEGAL_ENTITIES), externalUserId)))
             .then()
             .statusCode(SC_OK)
             .extract()
@@ -39,8 +39,8 @@ public class UserPresentationRestClient extends RestClient {
     }
 
     public UserGetResponseBody getUserByExternalId(String userExternalId) {
-        return requestSpec()
-            .get(String.format(getPath(ENDPOINT_USER_BY_EXTERNAL_ID), userExternalId))
+        return send(requestSpec -> requestSpec
+            .get(String.format(getPath(ENDPOINT_USER_BY_EXTERNAL_ID), userExternalId)))
             .then()
             .statusCode(SC_OK)
             .extract()
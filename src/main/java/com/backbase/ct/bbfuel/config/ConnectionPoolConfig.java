@@ -0,0 +1,24 @@
+package com.backbase.ct.bbfuel.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Connection pool of the HTTP clients towards a group of services. One pool is kept per host, its connections are
+ * kept alive and reused by all rest clients addressing that host.
+ */
+@Getter
+@Setter
+public class ConnectionPoolConfig {
+
+    /**
+     * Maximum number of connections to a single host.
+     */
+    private int maxPerRoute = 50;
+
+    /**
+     * Maximum number of connections of the pool in total.
+     */
+    private int maxTotal = 200;
+
+}
@@ -55,4 +55,9 @@ public class DbsConfig {
      */
     private String notifications;
 
+    /**
+     * Connection pool towards these services.
+     */
+    private ConnectionPoolConfig connectionPool = new ConnectionPoolConfig();
+
 }
@@ -30,4 +30,9 @@ public class PlatformConfig {
      */
     private String tokenconverter;
 
+    /**
+     * Connection pool towards these services.
+     */
+    private ConnectionPoolConfig connectionPool = new ConnectionPoolConfig();
+
 }
@@ -3,18 +3,22 @@ package com.backbase.ct.bbfuel.configurator;
 import static com.backbase.ct.bbfuel.data.AccessGroupsDataGenerator.createPermissionsForJobProfile;
 import static com.backbase.ct.bbfuel.data.AccessGroupsDataGenerator.createPermissionsWithAllPrivileges;
 import static com.backbase.ct.bbfuel.service.JobProfileService.ADMIN_FUNCTION_GROUP_NAME;
+import static com.backbase.ct.bbfuel.util.IngestionJournal.unit;
 import static java.util.stream.Collectors.toList;
 
-import com.backbase.ct.bbfuel.client.accessgroup.AccessGroupIntegrationRestClient;
 import com.backbase.ct.bbfuel.dto.ArrangementId;
 import com.backbase.ct.bbfuel.dto.entitlement.JobProfile;
 import com.backbase.ct.bbfuel.dto.entitlement.ProductGroupSeed;
 import com.backbase.ct.bbfuel.service.AccessGroupService;
+import com.backbase.ct.bbfuel.service.FunctionService;
 import com.backbase.ct.bbfuel.service.JobProfileService;
 import com.backbase.ct.bbfuel.service.ProductGroupService;
+import com.backbase.ct.bbfuel.util.IngestionJournal;
 import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.config.functions.FunctionsGetResponseBody;
 import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.function.Permission;
+import com.google.common.util.concurrent.Striped;
 import java.util.List;
+import java.util.concurrent.locks.Lock;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -22,7 +26,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class AccessGroupsConfigurator {
 
-    private final AccessGroupIntegrationRestClient accessGroupIntegrationRestClient;
+    private final FunctionService functionService;
 
     private final AccessGroupService accessGroupService;
 
@@ -30,7 +34,18 @@ public class AccessGroupsConfigurator {
 
     private final ProductGroupService productGroupService;
 
+    private final IngestionJournal journal;
+
     private static final String ARRANGEMENTS = "ARRANGEMENTS";
+    private static final String JOURNAL_FUNCTION_GROUP = "function-group";
+    private static final String JOURNAL_DATA_GROUP = "data-group";
+    private static final int SERVICE_AGREEMENT_LOCK_STRIPES = 64;
+
+    /**
+     * Function and data groups are looked up and created under a lock per service agreement, so groups of different
+     * service agreements are created concurrently.
+     */
+    private final Striped<Lock> serviceAgreementLocks = Striped.lock(SERVICE_AGREEMENT_LOCK_STRIPES);
 
     public JobProfile ingestAdminFunctionGroup(String externalServiceAgreementId) {
         JobProfile adminProfile = new JobProfile(ADMIN_FUNCTION_GROUP_NAME, null, null, null, null);
@@ -43,13 +58,25 @@ public class AccessGroupsConfigurator {
      * Ingest a function group aka job profile.
      * A profile without explicit permissions will be granted all.
      */
-    public synchronized void ingestFunctionGroup(JobProfile jobProfile) {
-        List<FunctionsGetResponseBody> functions = this.accessGroupIntegrationRestClient.retrieveFunctions();
+    public void ingestFunctionGroup(JobProfile jobProfile) {
+        runLocked(jobProfile.getExternalServiceAgreementId(), () -> doIngestFunctionGroup(jobProfile));
+    }
+
+    private void doIngestFunctionGroup(JobProfile jobProfile) {
+        String functionGroupUnit = unit(JOURNAL_FUNCTION_GROUP, jobProfile.getExternalServiceAgreementId(),
+            jobProfile.getJobProfileName());
+        String functionGroupId = journal.get(functionGroupUnit);
+        if (functionGroupId != null) {
+            jobProfile.setId(functionGroupId);
+            jobProfileService.storeInCache(jobProfile);
+            return;
+        }
 
-        String functionGroupId = jobProfileService.retrieveIdFromCache(jobProfile);
+        functionGroupId = jobProfileService.retrieveIdFromCache(jobProfile);
         if (functionGroupId != null) {
             return;
         }
+        List<FunctionsGetResponseBody> functions = this.functionService.getFunctions();
         List<Permission> permissions = jobProfile.getPermissions() == null
             ? createPermissionsWithAllPrivileges(functions)
             : createPermissionsForJobProfile(jobProfile, functions);
@@ -59,14 +86,25 @@ public class AccessGroupsConfigurator {
         jobProfile.setId(functionGroupId);
 
         jobProfileService.storeInCache(jobProfile);
+        journal.put(functionGroupUnit, functionGroupId);
     }
 
-    public synchronized void ingestDataGroupForArrangements(ProductGroupSeed productGroupSeed,
+    public void ingestDataGroupForArrangements(ProductGroupSeed productGroupSeed,
+        List<ArrangementId> arrangementIds) {
+        runLocked(productGroupSeed.getExternalServiceAgreementId(),
+            () -> doIngestDataGroupForArrangements(productGroupSeed, arrangementIds));
+    }
+
+    private void doIngestDataGroupForArrangements(ProductGroupSeed productGroupSeed,
         List<ArrangementId> arrangementIds) {
         List<String> internalArrangementIds = arrangementIds.stream()
             .map(ArrangementId::getInternalArrangementId)
             .collect(toList());
 
+        if (restoreDataGroup(productGroupSeed)) {
+            return;
+        }
+
         String dataGroupId = productGroupService.retrieveIdFromCache(productGroupSeed);
         if (dataGroupId != null) {
             return;
@@ -77,5 +115,36 @@ public class AccessGroupsConfigurator {
         productGroupSeed.setId(dataGroupId);
 
         productGroupService.saveAssignedProductGroup(productGroupSeed);
+        journal.put(dataGroupUnit(productGroupSeed), dataGroupId);
+    }
+
+    /**
+     * Assign the data group ingested by a previous run to the service agreement of the product group.
+     *
+     * @return false when the data group is not journaled
+     */
+    public boolean restoreDataGroup(ProductGroupSeed productGroupSeed) {
+        String dataGroupId = journal.get(dataGroupUnit(productGroupSeed));
+        if (dataGroupId == null) {
+            return false;
+        }
+        productGroupSeed.setId(dataGroupId);
+        productGroupService.saveAssignedProductGroup(productGroupSeed);
+        return true;
+    }
+
+    private static String dataGroupUnit(ProductGroupSeed productGroupSeed) {
+        return unit(JOURNAL_DATA_GROUP, productGroupSeed.getExternalServiceAgreementId(),
+            productGroupSeed.getProductGroupName());
+    }
+
+    private void runLocked(String externalServiceAgreementId, Runnable task) {
+        Lock lock = serviceAgreementLocks.get(String.valueOf(externalServiceAgreementId));
+        lock.lock();
+        try {
+            task.run();
+        } finally {
+            lock.unlock();
+        }
     }
 }
@@ -12,11 +12,11 @@ import com.backbase.ct.bbfuel.client.action.ActionRecipesPresentationRestClient;
 import com.backbase.ct.bbfuel.client.common.LoginRestClient;
 import com.backbase.ct.bbfuel.client.productsummary.ProductSummaryPresentationRestClient;
 import com.backbase.ct.bbfuel.util.GlobalProperties;
+import com.backbase.ct.bbfuel.util.IngestExecutor;
 import com.backbase.dbs.actions.actionrecipes.presentation.rest.spec.v2.actionrecipes.ActionRecipesPostRequestBody;
 import com.backbase.presentation.productsummary.rest.spec.v2.productsummary.ArrangementsByBusinessFunctionGetResponseBody;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +33,7 @@ public class ActionsConfigurator {
     private final UserContextPresentationRestClient userContextPresentationRestClient;
     private final ProductSummaryPresentationRestClient productSummaryPresentationRestClient;
     private final ActionRecipesPresentationRestClient actionRecipesPresentationRestClient ;
+    private final IngestExecutor ingestExecutor;
 
     public void ingestActions(String externalUserId) {
         List<ArrangementsByBusinessFunctionGetResponseBody> arrangements = new ArrayList<>();
@@ -45,7 +46,7 @@ public class ActionsConfigurator {
         arrangements.addAll(productSummaryPresentationRestClient.getSepaCtArrangements());
         arrangements.addAll(productSummaryPresentationRestClient.getUsDomesticWireArrangements());
 
-        IntStream.range(0, randomAmount).parallel().forEach(randomNumber -> {
+        ingestExecutor.forEachIndex(randomAmount, randomNumber -> {
             String internalArrangementId = getRandomFromList(arrangements).getId();
 
             ActionRecipesPostRequestBody actionRecipesPostRequestBody = generateActionRecipesPostRequestBody(
@@ -12,6 +12,7 @@ import com.backbase.ct.bbfuel.dto.User;
 import com.backbase.ct.bbfuel.service.LegalEntityService;
 import com.backbase.ct.bbfuel.util.GlobalProperties;
 import com.backbase.integration.legalentity.rest.spec.v2.legalentities.LegalEntitiesPostRequestBody;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -65,10 +66,11 @@ public class LegalEntitiesAndUsersConfigurator {
 
         String externalLegalEntityId = this.legalEntityService.ingestLegalEntity(requestBody);
 
-        legalEntityWithUsers.getUsers().parallelStream()
-            .forEach(
-                user -> this.userIntegrationRestClient
-                    .ingestUserAndLogResponse(LegalEntitiesAndUsersDataGenerator
-                        .generateUsersPostRequestBody(user, externalLegalEntityId)));
+        CompletableFuture.allOf(legalEntityWithUsers.getUsers().stream()
+            .map(user -> this.userIntegrationRestClient
+                .ingestUserAndLogResponseAsync(LegalEntitiesAndUsersDataGenerator
+                    .generateUsersPostRequestBody(user, externalLegalEntityId)))
+            .toArray(CompletableFuture[]::new))
+            .join();
     }
 }
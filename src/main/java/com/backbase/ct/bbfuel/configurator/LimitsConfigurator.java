@@ -8,12 +8,12 @@ import static com.backbase.ct.bbfuel.data.LimitsDataGenerator.createTransactiona
 import static java.util.Arrays.asList;
 import static org.apache.http.HttpStatus.SC_CREATED;
 
-import com.backbase.ct.bbfuel.client.accessgroup.AccessGroupIntegrationRestClient;
 import com.backbase.ct.bbfuel.client.accessgroup.AccessGroupPresentationRestClient;
 import com.backbase.ct.bbfuel.client.accessgroup.ServiceAgreementsPresentationRestClient;
 import com.backbase.ct.bbfuel.client.accessgroup.UserContextPresentationRestClient;
 import com.backbase.ct.bbfuel.client.common.LoginRestClient;
 import com.backbase.ct.bbfuel.client.limit.LimitsPresentationRestClient;
+import com.backbase.ct.bbfuel.service.FunctionService;
 import com.backbase.ct.bbfuel.util.GlobalProperties;
 import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.config.functions.FunctionsGetResponseBody;
 import java.math.BigDecimal;
@@ -33,7 +33,7 @@ public class LimitsConfigurator {
     private final LoginRestClient loginRestClient;
     private final UserContextPresentationRestClient userContextPresentationRestClient;
     private final AccessGroupPresentationRestClient accessGroupPresentationRestClient;
-    private final AccessGroupIntegrationRestClient accessGroupIntegrationRestClient;
+    private final FunctionService functionService;
     private final ServiceAgreementsPresentationRestClient serviceAgreementsPresentationRestClient;
     private final LimitsPresentationRestClient limitsPresentationRestClient;
     private String rootEntitlementsAdmin = globalProperties.getString(PROPERTY_ROOT_ENTITLEMENTS_ADMIN);
@@ -50,8 +50,8 @@ public class LimitsConfigurator {
             .retrieveServiceAgreement(internalServiceAgreementId)
             .getExternalId();
 
-        List<FunctionsGetResponseBody> paymentsFunctions = accessGroupIntegrationRestClient
-            .retrieveFunctions(asList(
+        List<FunctionsGetResponseBody> paymentsFunctions = functionService
+            .getFunctions(asList(
                 SEPA_CT_FUNCTION_NAME,
                 US_DOMESTIC_WIRE_FUNCTION_NAME,
                 US_FOREIGN_WIRE_FUNCTION_NAME));
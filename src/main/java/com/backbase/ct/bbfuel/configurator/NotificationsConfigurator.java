@@ -9,8 +9,8 @@ import com.backbase.ct.bbfuel.data.CommonConstants;
 import com.backbase.ct.bbfuel.data.NotificationsDataGenerator;
 import com.backbase.ct.bbfuel.util.CommonHelpers;
 import com.backbase.ct.bbfuel.util.GlobalProperties;
+import com.backbase.ct.bbfuel.util.IngestExecutor;
 import com.backbase.dbs.presentation.notifications.rest.spec.v2.notifications.NotificationsPostRequestBody;
-import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +26,7 @@ public class NotificationsConfigurator {
     private final NotificationsPresentationRestClient notificationsPresentationRestClient;
     private final LoginRestClient loginRestClient;
     private final UserContextPresentationRestClient userContextPresentationRestClient;
+    private final IngestExecutor ingestExecutor;
 
     /**
      * Create global notifications. Requires also either ingest.approvals.for.notifications=true or disabled approval
@@ -39,7 +40,7 @@ public class NotificationsConfigurator {
         int randomAmount = CommonHelpers
             .generateRandomNumberInRange(globalProperties.getInt(CommonConstants.PROPERTY_NOTIFICATIONS_MIN),
                 globalProperties.getInt(CommonConstants.PROPERTY_NOTIFICATIONS_MAX));
-        IntStream.range(0, randomAmount).parallel().forEach(randomNumber -> {
+        ingestExecutor.forEachIndex(randomAmount, randomNumber -> {
             NotificationsPostRequestBody notification = NotificationsDataGenerator
                 .generateNotificationsPostRequestBodyForGlobalTargetGroup();
             notificationsPresentationRestClient.createNotification(notification)
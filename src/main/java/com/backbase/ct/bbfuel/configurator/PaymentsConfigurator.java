@@ -17,7 +17,8 @@ import com.backbase.dbs.presentation.paymentorder.rest.spec.v2.paymentorders.Ini
 import com.backbase.presentation.productsummary.rest.spec.v2.productsummary.ArrangementsByBusinessFunctionGetResponseBody;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -31,7 +32,6 @@ public class PaymentsConfigurator {
     private static final Logger LOGGER = LoggerFactory.getLogger(PaymentsConfigurator.class);
     private static GlobalProperties globalProperties = GlobalProperties.getInstance();
 
-    private Random random = new Random();
     private final PaymentOrderPresentationRestClient paymentOrderPresentationRestClient;
     private final LoginRestClient loginRestClient;
     private final ProductSummaryPresentationRestClient productSummaryPresentationRestClient;
@@ -51,7 +51,7 @@ public class PaymentsConfigurator {
         int randomAmount = CommonHelpers
             .generateRandomNumberInRange(globalProperties.getInt(CommonConstants.PROPERTY_PAYMENTS_MIN),
                 globalProperties.getInt(CommonConstants.PROPERTY_PAYMENTS_MAX));
-        IntStream.range(0, randomAmount).parallel().forEach(randomNumber -> {
+        List<CompletableFuture<Void>> paymentOrders = IntStream.range(0, randomAmount).mapToObj(randomNumber -> {
             String paymentType = getRandomFromList(PAYMENT_TYPES);
             ArrangementsByBusinessFunctionGetResponseBody randomArrangement;
 
@@ -63,12 +63,17 @@ public class PaymentsConfigurator {
 
             InitiatePaymentOrder initiatePaymentOrder = PaymentsDataGenerator
                 .generateInitiatePaymentOrder(randomArrangement.getId(), paymentType);
-            paymentOrderPresentationRestClient.initiatePaymentOrder(initiatePaymentOrder)
-                .then()
-                .statusCode(SC_ACCEPTED);
+            return paymentOrderPresentationRestClient.initiatePaymentOrderAsync(initiatePaymentOrder)
+                .thenAccept(response -> {
+                    response.then()
+                        .statusCode(SC_ACCEPTED);
 
-            LOGGER.info("Payment order ingested for debtor account [{}] for user [{}]",
-                initiatePaymentOrder.getDebtorAccount().getIdentification().getIdentification(), externalUserId);
-        });
+                    LOGGER.info("Payment order ingested for debtor account [{}] for user [{}]",
+                        initiatePaymentOrder.getDebtorAccount().getIdentification().getIdentification(),
+                        externalUserId);
+                });
+        }).collect(Collectors.toList());
+
+        CompletableFuture.allOf(paymentOrders.toArray(new CompletableFuture[0])).join();
     }
 }
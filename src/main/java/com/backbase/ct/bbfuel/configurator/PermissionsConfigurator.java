@@ -1,16 +1,26 @@
 package com.backbase.ct.bbfuel.configurator;
 
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_PERMISSIONS_BATCH_SIZE;
+import static java.util.Collections.singletonList;
 import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
 import static org.apache.http.HttpStatus.SC_MULTI_STATUS;
 
 import com.backbase.buildingblocks.presentation.errors.BadRequestException;
 import com.backbase.ct.bbfuel.client.accessgroup.AccessGroupIntegrationRestClient;
+import com.backbase.ct.bbfuel.util.GlobalProperties;
 import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.BatchResponseItem;
 import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.BatchResponseStatusCode;
 import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.IntegrationIdentifier;
+import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.users.permissions.IntegrationAssignUserPermissions;
 import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.users.permissions.IntegrationFunctionGroupDataGroup;
+import com.google.common.collect.Lists;
 import io.restassured.response.Response;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -22,60 +32,99 @@ import org.springframework.stereotype.Service;
 public class PermissionsConfigurator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PermissionsConfigurator.class);
+    private static final String ALREADY_ASSIGNED = "dataAccessGroup.assign.error.message.E_ASSIGNED";
 
     private final AccessGroupIntegrationRestClient accessGroupIntegrationRestClient;
 
-    //TODO Refactor logging
-    public void assignPermissions(String externalUserId, String externalServiceAgreementId,
-        List<IntegrationFunctionGroupDataGroup> functionGroupDataGroups) {
-        Response response = accessGroupIntegrationRestClient.assignPermissions(
-            externalUserId,
-            externalServiceAgreementId,
-            functionGroupDataGroups);
+    private GlobalProperties globalProperties = GlobalProperties.getInstance();
 
-        if (response.statusCode() == SC_BAD_REQUEST &&
-            response.then()
-                .extract()
-                .as(BadRequestException.class)
-                .getErrors()
-                .get(0)
-                .getMessage()
-                .equals("dataAccessGroup.assign.error.message.E_ASSIGNED")) {
+    public List<IntegrationAssignUserPermissions> assignPermissions(String externalUserId,
+        String externalServiceAgreementId, List<IntegrationFunctionGroupDataGroup> functionGroupDataGroups) {
+        return assignPermissions(singletonList(new IntegrationAssignUserPermissions()
+            .withExternalUserId(externalUserId)
+            .withExternalServiceAgreementId(externalServiceAgreementId)
+            .withFunctionGroupDataGroups(functionGroupDataGroups)));
+    }
+
+    /**
+     * Assign the permissions of the users in batches of {@code permissions.batch.size} users per request. The result
+     * of every user is read from the multi status response by its resource id, the external user id. A user that is
+     * in the batch more than once takes its results in order. When a batch is rejected because some data groups are
+     * assigned already, the users of that batch are assigned one by one.
+     *
+     * @return the permissions that failed to be assigned, these are logged
+     */
+    public List<IntegrationAssignUserPermissions> assignPermissions(
+        List<IntegrationAssignUserPermissions> userPermissions) {
+        int batchSize = Math.max(globalProperties.getInt(PROPERTY_PERMISSIONS_BATCH_SIZE), 1);
+        List<IntegrationAssignUserPermissions> failed = new ArrayList<>();
+        for (List<IntegrationAssignUserPermissions> batch : Lists.partition(userPermissions, batchSize)) {
+            assignBatch(batch, failed);
+        }
+        return failed;
+    }
 
-            functionGroupDataGroups.forEach(functionGroupDataGroup -> {
-                List<String> ids = functionGroupDataGroup.getDataGroupIdentifiers().stream()
-                    .map(IntegrationIdentifier::getIdIdentifier).collect(
-                        Collectors.toList());
+    private void assignBatch(List<IntegrationAssignUserPermissions> batch,
+        List<IntegrationAssignUserPermissions> failed) {
+        Response response = accessGroupIntegrationRestClient.assignPermissions(batch);
 
-                LOGGER.info(
-                    "Data groups already assigned to service agreement [{}], user [{}], function group [{}], skipped assigning data group ids {}",
-                    externalServiceAgreementId, externalUserId, functionGroupDataGroup.getFunctionGroupIdentifier(),
-                    ids);
-            });
-        } else if (response.statusCode() == SC_MULTI_STATUS && response.then().extract()
-            .as(BatchResponseItem[].class)[0].getStatus().equals(BatchResponseStatusCode.HTTP_STATUS_OK)) {
+        if (response.statusCode() == SC_BAD_REQUEST && isAlreadyAssigned(response)) {
+            if (batch.size() > 1) {
+                batch.forEach(userPermissions -> assignBatch(singletonList(userPermissions), failed));
+                return;
+            }
+            logFunctionGroupDataGroups(batch.get(0),
+                "Data groups already assigned to service agreement [{}], user [{}], function group [{}], "
+                    + "skipped assigning data group ids {}");
+        } else if (response.statusCode() == SC_MULTI_STATUS) {
+            Map<String, Queue<BatchResponseItem>> itemsByUserId = new HashMap<>();
+            for (BatchResponseItem item : response.then().extract().as(BatchResponseItem[].class)) {
+                itemsByUserId.computeIfAbsent(item.getResourceId(), userId -> new ArrayDeque<>()).add(item);
+            }
 
-            functionGroupDataGroups.forEach(functionGroupDataGroup -> {
-                List<String> ids = functionGroupDataGroup.getDataGroupIdentifiers().stream()
-                    .map(IntegrationIdentifier::getIdIdentifier).collect(
-                        Collectors.toList());
-                LOGGER
-                    .info(
-                        "Permission assigned for service agreement [{}], user [{}], function group [{}], data groups {}",
-                        externalServiceAgreementId, externalUserId, functionGroupDataGroup.getFunctionGroupIdentifier(),
-                        ids);
-            });
+            for (IntegrationAssignUserPermissions userPermissions : batch) {
+                Queue<BatchResponseItem> items = itemsByUserId.get(userPermissions.getExternalUserId());
+                BatchResponseItem item = items == null ? null : items.poll();
+                if (item != null && BatchResponseStatusCode.HTTP_STATUS_OK.equals(item.getStatus())) {
+                    logFunctionGroupDataGroups(userPermissions,
+                        "Permission assigned for service agreement [{}], user [{}], function group [{}], "
+                            + "data groups {}");
+                } else {
+                    logFailure(userPermissions);
+                    failed.add(userPermissions);
+                }
+            }
         } else {
-
-            functionGroupDataGroups.forEach(functionGroupDataGroup -> {
-                List<String> ids = functionGroupDataGroup.getDataGroupIdentifiers().stream()
-                    .map(IntegrationIdentifier::getIdIdentifier).collect(
-                        Collectors.toList());
-                LOGGER.info(
-                    "Failed assigning data groups to service agreement [{}], user [{}], function group [{}], with data group ids {}",
-                    externalServiceAgreementId, externalUserId, functionGroupDataGroup.getFunctionGroupIdentifier(),
-                    ids);
-            });
+            batch.forEach(this::logFailure);
+            failed.addAll(batch);
         }
     }
+
+    private static boolean isAlreadyAssigned(Response response) {
+        return response.then()
+            .extract()
+            .as(BadRequestException.class)
+            .getErrors()
+            .get(0)
+            .getMessage()
+            .equals(ALREADY_ASSIGNED);
+    }
+
+    private void logFailure(IntegrationAssignUserPermissions userPermissions) {
+        logFunctionGroupDataGroups(userPermissions,
+            "Failed assigning data groups to service agreement [{}], user [{}], function group [{}], "
+                + "with data group ids {}");
+    }
+
+    private static void logFunctionGroupDataGroups(IntegrationAssignUserPermissions userPermissions,
+        String message) {
+        userPermissions.getFunctionGroupDataGroups().forEach(functionGroupDataGroup -> {
+            List<String> ids = functionGroupDataGroup.getDataGroupIdentifiers().stream()
+                .map(IntegrationIdentifier::getIdIdentifier)
+                .collect(Collectors.toList());
+
+            LOGGER.info(message, userPermissions.getExternalServiceAgreementId(), userPermissions.getExternalUserId(),
+                functionGroupDataGroup.getFunctionGroupIdentifier(), ids);
+        });
+    }
 }
@@ -7,15 +7,17 @@ import static java.util.Collections.synchronizedList;
 import static org.apache.http.HttpStatus.SC_CREATED;
 
 import com.backbase.ct.bbfuel.client.productsummary.ArrangementsIntegrationRestClient;
-import com.backbase.ct.bbfuel.data.ProductSummaryDataGenerator;
+import com.backbase.ct.bbfuel.data.ProductCatalog;
 import com.backbase.ct.bbfuel.dto.ArrangementId;
 import com.backbase.ct.bbfuel.dto.entitlement.ProductGroupSeed;
+import com.backbase.ct.bbfuel.util.IngestExecutor;
 import com.backbase.integration.arrangement.rest.spec.v2.arrangements.ArrangementsPostRequestBody;
-import com.backbase.integration.arrangement.rest.spec.v2.arrangements.ArrangementsPostResponseBody;
 import com.backbase.integration.arrangement.rest.spec.v2.balancehistory.BalanceHistoryPostRequestBody;
 import com.backbase.integration.arrangement.rest.spec.v2.products.ProductsPostRequestBody;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,16 +29,15 @@ public class ProductSummaryConfigurator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ProductSummaryConfigurator.class);
     private final ArrangementsIntegrationRestClient arrangementsIntegrationRestClient;
+    private final IngestExecutor ingestExecutor;
 
     public void ingestProducts() {
-        List<ProductsPostRequestBody> products = ProductSummaryDataGenerator.getProductsFromFile();
-        products.stream().parallel()
-            .forEach(arrangementsIntegrationRestClient::ingestProductAndLogResponse);
+        List<ProductsPostRequestBody> products = ProductCatalog.getInstance().getProducts();
+        ingestExecutor.forEach(products, arrangementsIntegrationRestClient::ingestProductAndLogResponse);
     }
 
     public List<ArrangementId> ingestArrangements(String externalLegalEntityId, ProductGroupSeed productGroupSeed) {
         List<ArrangementsPostRequestBody> arrangements = synchronizedList(new ArrayList<>());
-        List<ArrangementId> arrangementIds = synchronizedList(new ArrayList<>());
 
         int numberOfArrangements = productGroupSeed.getNumberOfArrangements().getRandomNumberInRange();
         int tenPercentOfTotal = (int) Math.round(numberOfArrangements * 0.1);
@@ -55,29 +56,35 @@ public class ProductSummaryConfigurator {
                 productGroupSeed.getProductIds().contains(String.valueOf(1)) ? numberOfNonCurrentAccounts : numberOfArrangements));
         }
 
-        arrangements.parallelStream().forEach(arrangement -> {
-            ArrangementsPostResponseBody arrangementsPostResponseBody = arrangementsIntegrationRestClient
-                .ingestArrangement(arrangement);
-            LOGGER.info("Arrangement [{}] ingested for product [{}] under legal entity [{}]",
-                arrangement.getName(), arrangement.getProductId(), externalLegalEntityId);
-            arrangementIds.add(new ArrangementId(arrangementsPostResponseBody.getId(), arrangement.getId()));
-        });
+        List<CompletableFuture<ArrangementId>> ingestedArrangements = arrangements.stream()
+            .map(arrangement -> arrangementsIntegrationRestClient.ingestArrangementAsync(arrangement)
+                .thenApply(arrangementsPostResponseBody -> {
+                    LOGGER.info("Arrangement [{}] ingested for product [{}] under legal entity [{}]",
+                        arrangement.getName(), arrangement.getProductId(), externalLegalEntityId);
+                    return new ArrangementId(arrangementsPostResponseBody.getId(), arrangement.getId());
+                }))
+            .collect(Collectors.toList());
 
-        return arrangementIds;
+        return ingestedArrangements.stream()
+            .map(CompletableFuture::join)
+            .collect(Collectors.toList());
     }
 
-    public void ingestBalanceHistory(String externalArrangementId) {
+    /**
+     * Submit the balance history items of the arrangement without waiting for them. The items of all arrangements
+     * submitted share the {@code http.async.max.in.flight} requests in flight, as there is no bulk endpoint.
+     */
+    public CompletableFuture<Void> ingestBalanceHistoryAsync(String externalArrangementId) {
         List<BalanceHistoryPostRequestBody> balanceHistoryPostRequestBodies = generateBalanceHistoryPostRequestBodies(
             externalArrangementId);
 
-        balanceHistoryPostRequestBodies.parallelStream()
-            .forEach(balanceHistoryPostRequestBody -> {
-                arrangementsIntegrationRestClient.ingestBalance(balanceHistoryPostRequestBody)
-                    .then()
-                    .statusCode(SC_CREATED);
-
-                LOGGER.info("Balance history item ingested for arrangement [{}] with updated date [{}]",
-                    externalArrangementId, balanceHistoryPostRequestBody.getUpdatedDate());
-            });
+        return CompletableFuture.allOf(balanceHistoryPostRequestBodies.stream()
+            .map(balanceHistoryPostRequestBody -> arrangementsIntegrationRestClient
+                .ingestBalanceAsync(balanceHistoryPostRequestBody)
+                .thenAccept(response -> response.then()
+                    .statusCode(SC_CREATED)))
+            .toArray(CompletableFuture[]::new))
+            .thenRun(() -> LOGGER.info("Balance history items [{}] ingested for arrangement [{}]",
+                balanceHistoryPostRequestBodies.size(), externalArrangementId));
     }
 }
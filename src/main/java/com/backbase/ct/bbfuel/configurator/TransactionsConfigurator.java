@@ -1,6 +1,7 @@
 package com.backbase.ct.bbfuel.configurator;
 
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_ROOT_ENTITLEMENTS_ADMIN;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_TRANSACTIONS_BATCH_SIZE;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_USE_PFM_CATEGORIES_FOR_TRANSACTIONS;
 import static org.apache.http.HttpStatus.SC_CREATED;
 
@@ -12,11 +13,13 @@ import com.backbase.ct.bbfuel.data.CommonConstants;
 import com.backbase.ct.bbfuel.data.TransactionsDataGenerator;
 import com.backbase.ct.bbfuel.util.CommonHelpers;
 import com.backbase.ct.bbfuel.util.GlobalProperties;
+import com.backbase.ct.bbfuel.util.SeededRandom;
 import com.backbase.integration.transaction.external.rest.spec.v2.transactions.TransactionsPostRequestBody;
 import com.backbase.presentation.categories.management.rest.spec.v2.categories.SubCategory;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -36,8 +39,11 @@ public class TransactionsConfigurator {
     private final UserContextPresentationRestClient userContextPresentationRestClient;
     private String rootEntitlementsAdmin = globalProperties.getString(PROPERTY_ROOT_ENTITLEMENTS_ADMIN);
 
+    /**
+     * Transactions are generated and ingested in batches of {@code transactions.batch.size}: the next batch is
+     * generated while the previous one is ingested, so no more than two batches of an arrangement are in memory.
+     */
     public void ingestTransactionsByArrangement(String externalArrangementId, boolean isRetail) {
-        List<TransactionsPostRequestBody> transactions = Collections.synchronizedList(new ArrayList<>());
         List<SubCategory> retailCategories = new ArrayList<>();
 
         if (globalProperties.getBoolean(PROPERTY_USE_PFM_CATEGORIES_FOR_TRANSACTIONS)) {
@@ -49,16 +55,25 @@ public class TransactionsConfigurator {
         int randomAmount = CommonHelpers
             .generateRandomNumberInRange(globalProperties.getInt(CommonConstants.PROPERTY_TRANSACTIONS_MIN),
                 globalProperties.getInt(CommonConstants.PROPERTY_TRANSACTIONS_MAX));
+        int batchSize = Math.max(globalProperties.getInt(PROPERTY_TRANSACTIONS_BATCH_SIZE), 1);
 
         List<SubCategory> finalCategories = new ArrayList<>(retailCategories);
+        Long seed = SeededRandom.currentSeed();
+        CompletableFuture<Void> previousBatch = CompletableFuture.completedFuture(null);
 
-        IntStream.range(0, randomAmount).parallel()
-            .forEach(randomNumber -> transactions.add(
-                TransactionsDataGenerator.generateTransactionsPostRequestBody(externalArrangementId, isRetail, finalCategories)));
+        for (int start = 0; start < randomAmount; start += batchSize) {
+            List<TransactionsPostRequestBody> transactions = IntStream
+                .range(start, Math.min(start + batchSize, randomAmount)).parallel()
+                .mapToObj(randomNumber -> SeededRandom.callSplit(seed, randomNumber, () -> TransactionsDataGenerator
+                    .generateTransactionsPostRequestBody(externalArrangementId, isRetail, finalCategories)))
+                .collect(Collectors.toList());
 
-        transactionsIntegrationRestClient.ingestTransactions(transactions)
-            .then()
-            .statusCode(SC_CREATED);
+            previousBatch.join();
+            previousBatch = transactionsIntegrationRestClient.ingestTransactionsAsync(transactions)
+                .thenAccept(response -> response.then()
+                    .statusCode(SC_CREATED));
+        }
+        previousBatch.join();
 
         LOGGER.info("Transactions [{}] ingested for arrangement [{}]", randomAmount, externalArrangementId);
     }
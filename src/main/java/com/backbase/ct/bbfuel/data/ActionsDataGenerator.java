@@ -6,20 +6,15 @@ import static java.util.Arrays.asList;
 
 import com.backbase.dbs.actions.actionrecipes.presentation.rest.spec.v2.actionrecipes.ActionParent;
 import com.backbase.dbs.actions.actionrecipes.presentation.rest.spec.v2.actionrecipes.ActionRecipesPostRequestBody;
-import com.github.javafaker.Faker;
 import java.util.List;
-import java.util.Random;
 
 public class ActionsDataGenerator {
 
-    private static Faker faker = new Faker();
-    private static Random random = new Random();
-
     public static ActionRecipesPostRequestBody generateActionRecipesPostRequestBody(String internalArrangementId) {
         List<String> specificationIds = asList("1", "4");
 
         return new ActionRecipesPostRequestBody()
-            .withName(faker.lorem().characters(30))
+            .withName(ValuePool.characters(30))
             .withActive(true)
             .withSpecificationId(getRandomFromList(specificationIds))
             .withActions(createAllActionsList())
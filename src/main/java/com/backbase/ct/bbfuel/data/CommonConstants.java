@@ -13,14 +13,62 @@ public final class CommonConstants {
     public static final String PROPERTY_MULTI_TENANCY_ENVIRONMENT = "multi.tenancy.environment";
     public static final String PROPERTY_TENANT_ID = "tenant.id";
 
+    // Login
+    public static final String PROPERTY_LOGIN_SESSION_TTL_SECONDS = "login.session.ttl.seconds";
+    public static final String PROPERTY_LOGIN_SESSION_PREWARM = "login.session.prewarm";
+
+    // Concurrency
+    public static final String PROPERTY_HTTP_ASYNC_MAX_IN_FLIGHT = "http.async.max.in.flight";
+    public static final String PROPERTY_HTTP_LIMITER_ENABLED = "http.limiter.enabled";
+    public static final String PROPERTY_HTTP_LIMITER_INITIAL_LIMIT = "http.limiter.initial.limit";
+    public static final String PROPERTY_HTTP_LIMITER_MAX_LIMIT = "http.limiter.max.limit";
+    public static final String PROPERTY_HTTP_LIMITER_BACKOFF_RATIO = "http.limiter.backoff.ratio";
+    public static final String PROPERTY_HTTP_LIMITER_LATENCY_TOLERANCE = "http.limiter.latency.tolerance";
+    public static final String PROPERTY_HTTP_RETRY_MAX_ATTEMPTS = "http.retry.max.attempts";
+    public static final String PROPERTY_HTTP_RETRY_BACKOFF_MILLIS = "http.retry.backoff.millis";
+    public static final String PROPERTY_HTTP_RETRY_MAX_BACKOFF_MILLIS = "http.retry.max.backoff.millis";
+    public static final String PROPERTY_HTTP_RETRY_BUDGET_RATIO = "http.retry.budget.ratio";
+    public static final String PROPERTY_HTTP_RETRY_BUDGET_MIN_RETRIES = "http.retry.budget.min.retries";
+    public static final String PROPERTY_HTTP_CIRCUIT_BREAKER_ENABLED = "http.circuit.breaker.enabled";
+    public static final String PROPERTY_HTTP_CIRCUIT_BREAKER_FAILURE_THRESHOLD =
+        "http.circuit.breaker.failure.threshold";
+    public static final String PROPERTY_HTTP_CIRCUIT_BREAKER_OPEN_SECONDS = "http.circuit.breaker.open.seconds";
+    public static final String PROPERTY_INGEST_IO_THREADS = "ingest.io.threads";
+    public static final String PROPERTY_INGEST_IO_VIRTUAL_THREADS = "ingest.io.virtual.threads";
+    public static final String PROPERTY_INGEST_CAPABILITIES_CONCURRENTLY = "ingest.capabilities.concurrently";
+    public static final String PROPERTY_APPROVALS_PARALLELISM = "approvals.parallelism";
+    public static final String PROPERTY_LIMITS_PARALLELISM = "limits.parallelism";
+    public static final String PROPERTY_PAYMENTS_PARALLELISM = "payments.parallelism";
+    public static final String PROPERTY_CONTACTS_PARALLELISM = "contacts.parallelism";
+    public static final String PROPERTY_MESSAGES_PARALLELISM = "messages.parallelism";
+    public static final String PROPERTY_ACTIONS_PARALLELISM = "actions.parallelism";
+    public static final String PROPERTY_BILLPAY_PARALLELISM = "billpay.parallelism";
+
+    // Data generation
+    public static final String PROPERTY_VALUE_POOL_SIZE = "value.pool.size";
+    public static final String PROPERTY_DATA_SEED = "data.seed";
+
+    // Journal
+    public static final String PROPERTY_INGEST_JOURNAL_DIRECTORY = "ingest.journal.directory";
+
     // Users
     public static final String PROPERTY_ROOT_ENTITLEMENTS_ADMIN = "root.entitlements.admin";
     public static final String PROPERTY_LEGAL_ENTITIES_WITH_USERS_JSON = "legal.entities.with.users.json";
+    public static final String PROPERTY_LEGAL_ENTITIES_WITH_USERS_STREAMING = "legal.entities.with.users.streaming";
+    public static final String PROPERTY_LEGAL_ENTITIES_WITH_USERS_BATCH_SIZE = "legal.entities.with.users.batch.size";
+    public static final String PROPERTY_POPULATION_SCALE = "population.scale";
+    public static final String PROPERTY_POPULATION_RETAIL_LEGAL_ENTITIES = "population.retail.legal.entities";
+    public static final String PROPERTY_POPULATION_BUSINESS_LEGAL_ENTITIES = "population.business.legal.entities";
+    public static final String PROPERTY_POPULATION_BUSINESS_USERS_MIN = "population.business.users.min";
+    public static final String PROPERTY_POPULATION_BUSINESS_USERS_MAX = "population.business.users.max";
+    public static final String PROPERTY_POPULATION_PRODUCT_GROUPS_PER_USER = "population.product.groups.per.user";
     public static final String PROPERTY_SERVICE_AGREEMENTS_JSON = "service.agreements.json";
 
     // Entitlements
     static final String EXTERNAL_LEGAL_ENTITY_ID_PREFIX = "C00000";
     public static final String EXTERNAL_ROOT_LEGAL_ENTITY_ID = EXTERNAL_LEGAL_ENTITY_ID_PREFIX + "0";
+    // Legal entity names are unique, a fake name is followed by the external id
+    public static final String LEGAL_ENTITY_NAME_FORMAT = "%s (%s)";
     public static final String SEPA_CT_FUNCTION_NAME = "SEPA CT";
     public static final String US_DOMESTIC_WIRE_FUNCTION_NAME = "US Domestic Wire";
     public static final String US_FOREIGN_WIRE_FUNCTION_NAME = "US Foreign Wire";
@@ -31,6 +79,9 @@ public final class CommonConstants {
     public static final String NOTIFICATIONS_FUNCTION_NAME = "Manage Notifications";
     public static final String PRIVILEGE_CREATE = "create";
     public static final String PROPERTY_INGEST_ACCESS_CONTROL = "ingest.access.control";
+    public static final String PROPERTY_ACCESS_CONTROL_PARALLELISM = "access.control.legal.entity.parallelism";
+    public static final String PROPERTY_FUNCTION_CATALOG_TTL_SECONDS = "function.catalog.ttl.seconds";
+    public static final String PROPERTY_PERMISSIONS_BATCH_SIZE = "permissions.batch.size";
     public static final String PROPERTY_INGEST_CUSTOM_SERVICE_AGREEMENTS = "ingest.custom.service.agreements";
     public static final String PROPERTY_JOB_PROFILES_JSON_LOCATION = "job.profiles.json";
     public static final String PROPERTY_PRODUCT_GROUP_SEED_JSON_LOCATION = "product.group.seed.json";
@@ -39,8 +90,12 @@ public final class CommonConstants {
     public static final String PROPERTY_CONTACT_ACCOUNTS_MIN = "contact.accounts.min";
     public static final String PROPERTY_CONTACT_ACCOUNTS_MAX = "contact.accounts.max";
     public static final String PROPERTY_INGEST_BALANCE_HISTORY = "ingest.balance.history";
+    public static final String PROPERTY_BALANCE_HISTORY_WEEKS = "balance.history.weeks";
+    public static final String PROPERTY_BALANCE_HISTORY_DAYS = "balance.history.days";
     public static final String PROPERTY_TRANSACTIONS_MIN = "transactions.min";
     public static final String PROPERTY_TRANSACTIONS_MAX = "transactions.max";
+    public static final String PROPERTY_TRANSACTIONS_BATCH_SIZE = "transactions.batch.size";
+    public static final String PROPERTY_TRANSACTIONS_HISTORY_DAYS = "transactions.history.days";
     public static final String PROPERTY_INGEST_TRANSACTIONS = "ingest.transactions";
     public static final String PROPERTY_USE_PFM_CATEGORIES_FOR_TRANSACTIONS = "use.pfm.categories.for.transactions";
     public static final String PROPERTY_NOTIFICATIONS_MIN = "notifications.min";
@@ -1,21 +1,17 @@
 package com.backbase.ct.bbfuel.data;
 
-import static com.backbase.ct.bbfuel.data.ProductSummaryDataGenerator.generateRandomIban;
+import static com.backbase.ct.bbfuel.util.CommonHelpers.generateRandomUuid;
 
 import com.backbase.dbs.integration.external.inbound.contact.rest.spec.v2.contacts.AccessContext;
 import com.backbase.dbs.integration.external.inbound.contact.rest.spec.v2.contacts.Address;
 import com.backbase.dbs.integration.external.inbound.contact.rest.spec.v2.contacts.ContactsBulkIngestionPostRequestBody;
 import com.backbase.dbs.integration.external.inbound.contact.rest.spec.v2.contacts.ExternalAccountInformation;
 import com.backbase.dbs.integration.external.inbound.contact.rest.spec.v2.contacts.ExternalContact;
-import com.github.javafaker.Faker;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 public class ContactsDataGenerator {
 
-    private static Faker faker = new Faker();
-
     public static ContactsBulkIngestionPostRequestBody generateContactsBulkIngestionPostRequestBody(
         String externalServiceAgreementId, String externalUserId, int numberOfContacts, int numberOfAccountsPerContact) {
         return new ContactsBulkIngestionPostRequestBody()
@@ -42,47 +38,47 @@ public class ContactsDataGenerator {
 
         for (int i = 0; i < numberOfAccounts; i++) {
             accounts.add(new ExternalAccountInformation()
-                .withExternalId(UUID.randomUUID().toString().substring(0, 32))
-                .withName(faker.lorem().sentence(3, 0).replace(".", ""))
-                .withIban(generateRandomIban())
-                .withAccountNumber(faker.finance().iban())
-                .withAlias(faker.lorem().characters(10))
+                .withExternalId(generateRandomUuid().substring(0, 32))
+                .withName(ValuePool.shortSentence())
+                .withIban(ValuePool.iban())
+                .withAccountNumber(ValuePool.iban())
+                .withAlias(ValuePool.characters(10))
                 .withBic(null)
                 .withAccountHolderAddress(new Address()
-                    .withAddressLine1(faker.address().streetAddress())
-                    .withAddressLine2(faker.address().secondaryAddress())
-                    .withStreetName(faker.address().streetAddress())
-                    .withPostCode(faker.address().zipCode())
-                    .withTown(faker.address().cityName())
-                    .withCountry(faker.address().countryCode())
-                    .withCountrySubDivision(faker.address().state()))
-                .withBankCode(faker.lorem().characters(10))
+                    .withAddressLine1(ValuePool.streetAddress())
+                    .withAddressLine2(ValuePool.secondaryAddress())
+                    .withStreetName(ValuePool.streetAddress())
+                    .withPostCode(ValuePool.zipCode())
+                    .withTown(ValuePool.city())
+                    .withCountry(ValuePool.countryCode())
+                    .withCountrySubDivision(ValuePool.state()))
+                .withBankCode(ValuePool.characters(10))
                 .withBankAddress(new Address()
-                    .withAddressLine1(faker.address().streetAddress())
-                    .withAddressLine2(faker.address().secondaryAddress())
-                    .withStreetName(faker.address().streetAddress())
-                    .withPostCode(faker.address().zipCode())
-                    .withTown(faker.address().city())
-                    .withCountry(faker.address().countryCode())
-                    .withCountrySubDivision(faker.address().state())));
+                    .withAddressLine1(ValuePool.streetAddress())
+                    .withAddressLine2(ValuePool.secondaryAddress())
+                    .withStreetName(ValuePool.streetAddress())
+                    .withPostCode(ValuePool.zipCode())
+                    .withTown(ValuePool.city())
+                    .withCountry(ValuePool.countryCode())
+                    .withCountrySubDivision(ValuePool.state())));
         }
 
         return new ExternalContact()
-            .withExternalId(UUID.randomUUID().toString().substring(0, 32))
-            .withName(faker.name().fullName())
-            .withAlias(faker.lorem().characters(10))
-            .withContactPerson(faker.name().fullName())
-            .withEmailId(faker.internet().emailAddress())
-            .withPhoneNumber(faker.phoneNumber().phoneNumber())
-            .withCategory(faker.lorem().characters(10))
+            .withExternalId(generateRandomUuid().substring(0, 32))
+            .withName(ValuePool.fullName())
+            .withAlias(ValuePool.characters(10))
+            .withContactPerson(ValuePool.fullName())
+            .withEmailId(ValuePool.emailAddress())
+            .withPhoneNumber(ValuePool.phoneNumber())
+            .withCategory(ValuePool.characters(10))
             .withAddress(new Address()
-                .withAddressLine1(faker.address().streetAddress())
-                .withAddressLine2(faker.address().secondaryAddress())
-                .withStreetName(faker.address().streetAddress())
-                .withPostCode(faker.address().zipCode())
-                .withTown(faker.address().city())
-                .withCountry(faker.address().countryCode())
-                .withCountrySubDivision(faker.address().state()))
+                .withAddressLine1(ValuePool.streetAddress())
+                .withAddressLine2(ValuePool.secondaryAddress())
+                .withStreetName(ValuePool.streetAddress())
+                .withPostCode(ValuePool.zipCode())
+                .withTown(ValuePool.city())
+                .withCountry(ValuePool.countryCode())
+                .withCountrySubDivision(ValuePool.state()))
             .withAccounts(accounts);
     }
 }
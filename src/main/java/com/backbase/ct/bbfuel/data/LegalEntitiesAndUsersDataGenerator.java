@@ -3,18 +3,16 @@ package com.backbase.ct.bbfuel.data;
 import static com.backbase.ct.bbfuel.data.CommonConstants.*;
 
 import com.backbase.ct.bbfuel.dto.User;
+import com.backbase.ct.bbfuel.util.SeededRandom;
 import com.backbase.integration.legalentity.rest.spec.v2.legalentities.LegalEntitiesPostRequestBody;
 import com.backbase.integration.legalentity.rest.spec.v2.legalentities.enumeration.LegalEntityType;
 import com.backbase.integration.user.rest.spec.v2.users.UsersPostRequestBody;
-import com.github.javafaker.Faker;
 import com.google.common.base.Strings;
 import java.util.Optional;
 import org.apache.commons.lang.RandomStringUtils;
 
 public class LegalEntitiesAndUsersDataGenerator {
 
-    private static Faker faker = new Faker();
-
     public static LegalEntitiesPostRequestBody generateRootLegalEntitiesPostRequestBody(String externalLegalEntityId) {
         return new LegalEntitiesPostRequestBody()
             .withExternalId(externalLegalEntityId)
@@ -26,12 +24,12 @@ public class LegalEntitiesAndUsersDataGenerator {
     public static LegalEntitiesPostRequestBody composeLegalEntitiesPostRequestBody(String legalEntityExternalId,
         String legalEntityName,
         String parentLegalEntityExternalId, String type) {
-        String randomLegalEntityName = faker.name().lastName() + " "
-            + faker.company().industry().replaceAll("(/| or).*", "").trim();
+        String externalId = Optional.ofNullable(legalEntityExternalId).orElse(generateExternalLegalEntityId());
 
         return new LegalEntitiesPostRequestBody()
-            .withExternalId(Optional.ofNullable(legalEntityExternalId).orElse(generateExternalLegalEntityId()))
-            .withName(Optional.ofNullable(legalEntityName).orElse(randomLegalEntityName))
+            .withExternalId(externalId)
+            .withName(Optional.ofNullable(legalEntityName)
+                .orElseGet(() -> String.format(LEGAL_ENTITY_NAME_FORMAT, ValuePool.legalEntityName(), externalId)))
             .withParentExternalId(
                 Optional.ofNullable(parentLegalEntityExternalId).orElse(EXTERNAL_ROOT_LEGAL_ENTITY_ID))
             .withType((!Strings.isNullOrEmpty(type)) ? LegalEntityType.fromValue(type) : LegalEntityType.CUSTOMER);
@@ -45,6 +43,6 @@ public class LegalEntitiesAndUsersDataGenerator {
     }
 
     private static String generateExternalLegalEntityId() {
-        return EXTERNAL_LEGAL_ENTITY_ID_PREFIX + RandomStringUtils.randomNumeric(8);
+        return EXTERNAL_LEGAL_ENTITY_ID_PREFIX + RandomStringUtils.random(8, 0, 0, false, true, null, SeededRandom.current());
     }
 }
@@ -16,19 +16,15 @@ import com.backbase.dbs.presentation.paymentorder.rest.spec.v2.paymentorders.Inv
 import com.backbase.dbs.presentation.paymentorder.rest.spec.v2.paymentorders.PostalAddress;
 import com.backbase.dbs.presentation.paymentorder.rest.spec.v2.paymentorders.Schedule;
 import com.backbase.rest.spec.common.types.Currency;
-import com.github.javafaker.Faker;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.Random;
 import org.apache.commons.lang.time.DateUtils;
 
 public class PaymentsDataGenerator {
 
-    private static Faker faker = new Faker();
-    private static Random random = new Random();
     private static List<String> branchCodes = Arrays
         .asList("114923756", "114910222", "124000054", "113011258", "113110586", "121002042", "122003396", "122232109",
             "122237625", "122237997", "122238572", "122105045", "122105171", "122105320", "122400779", "123006965",
@@ -39,8 +35,8 @@ public class PaymentsDataGenerator {
             "103101013", "303986096");
 
     public static InitiatePaymentOrder generateInitiatePaymentOrder(String debtorArrangementId, String paymentType) {
-        IdentifiedPaymentOrder.PaymentMode paymentMode = IdentifiedPaymentOrder.PaymentMode.values()[random
-            .nextInt(IdentifiedPaymentOrder.PaymentMode.values().length)];
+        IdentifiedPaymentOrder.PaymentMode paymentMode = getRandomFromEnumValues(
+            IdentifiedPaymentOrder.PaymentMode.values());
         Schedule schedule = null;
         Bank creditorBank = null;
         Bank correspondentBank = null;
@@ -70,7 +66,7 @@ public class PaymentsDataGenerator {
 
         return new InitiatePaymentOrder()
             .withDebtorAccount(new AccountIdentification()
-                .withName(faker.lorem().sentence(3, 0).replace(".", ""))
+                .withName(ValuePool.shortSentence())
                 .withIdentification(new Identification().withSchemeName(Identification.SchemeName.ID)
                     .withIdentification(debtorArrangementId)))
             .withBatchBooking(false)
@@ -81,22 +77,22 @@ public class PaymentsDataGenerator {
             .withRequestedExecutionDate(new SimpleDateFormat("yyyy-MM-dd").format(new Date()))
             .withSchedule(schedule)
             .withCreditTransferTransactionInformation(Collections.singletonList(new InitiateCreditTransaction()
-                .withEndToEndIdentification(faker.lorem().characters(10))
+                .withEndToEndIdentification(ValuePool.characters(10))
                 .withCreditorAccount(new InitiateCreditorAccount()
-                    .withName(faker.lorem().sentence(3, 0).replace(".", ""))
+                    .withName(ValuePool.shortSentence())
                     .withIdentification(identification))
                 .withInstructedAmount(currency)
-                .withRemittanceInformation(faker.lorem().sentence(3, 0).replace(".", ""))
+                .withRemittanceInformation(ValuePool.shortSentence())
                 .withCreditor(new InvolvedParty()
-                    .withName(faker.name().fullName())
+                    .withName(ValuePool.fullName())
                     .withPostalAddress(new PostalAddress()
-                        .withAddressLine1(faker.address().streetAddress())
-                        .withAddressLine2(faker.address().secondaryAddress())
-                        .withStreetName(faker.address().streetAddress())
-                        .withPostCode(faker.address().zipCode())
-                        .withTown(faker.address().city())
-                        .withCountry(faker.address().countryCode())
-                        .withCountrySubDivision(faker.address().state())))
+                        .withAddressLine1(ValuePool.streetAddress())
+                        .withAddressLine2(ValuePool.secondaryAddress())
+                        .withStreetName(ValuePool.streetAddress())
+                        .withPostCode(ValuePool.zipCode())
+                        .withTown(ValuePool.city())
+                        .withCountry(ValuePool.countryCode())
+                        .withCountrySubDivision(ValuePool.state())))
                 .withCreditorBank(creditorBank)
                 .withCorrespondentBank(correspondentBank)));
     }
@@ -104,7 +100,7 @@ public class PaymentsDataGenerator {
     private static Identification generateIbanIdentification() {
         return new Identification()
             .withSchemeName(Identification.SchemeName.IBAN)
-            .withIdentification(ProductSummaryDataGenerator.generateRandomIban());
+            .withIdentification(ValuePool.iban());
     }
 
     private static Identification generateBbanIdentification() {
@@ -116,20 +112,20 @@ public class PaymentsDataGenerator {
     private static Bank generateCorrespondentBank() {
         return new Bank()
             .withBankBranchCode(getRandomFromList(branchCodes))
-            .withName(faker.name().fullName());
+            .withName(ValuePool.fullName());
     }
 
     private static Bank generateCreditorBank() {
         return new Bank()
             .withBankBranchCode(getRandomFromList(branchCodes))
-            .withName(faker.name().fullName())
+            .withName(ValuePool.fullName())
             .withPostalAddress(new PostalAddress()
-                .withAddressLine1(faker.address().streetAddress())
-                .withAddressLine2(faker.address().secondaryAddress())
-                .withStreetName(faker.address().streetAddress())
-                .withPostCode(faker.address().zipCode())
-                .withTown(faker.address().city())
-                .withCountry(faker.address().countryCode())
-                .withCountrySubDivision(faker.address().state()));
+                .withAddressLine1(ValuePool.streetAddress())
+                .withAddressLine2(ValuePool.secondaryAddress())
+                .withStreetName(ValuePool.streetAddress())
+                .withPostCode(ValuePool.zipCode())
+                .withTown(ValuePool.city())
+                .withCountry(ValuePool.countryCode())
+                .withCountrySubDivision(ValuePool.state()));
     }
 }
@@ -0,0 +1,59 @@
+package com.backbase.ct.bbfuel.data;
+
+import com.backbase.ct.bbfuel.input.ProductReader;
+import com.backbase.integration.arrangement.rest.spec.v2.products.ProductsPostRequestBody;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import java.util.List;
+
+/**
+ * The products of the configured products json file, read and validated once. Shared by the generators and
+ * configurators, which look products up by id or product kind.
+ */
+public final class ProductCatalog {
+
+    private final List<ProductsPostRequestBody> products;
+    private final ImmutableMap<String, ProductsPostRequestBody> productsById;
+    private final ImmutableListMultimap<String, ProductsPostRequestBody> productsByKindId;
+
+    private ProductCatalog(List<ProductsPostRequestBody> products) {
+        this.products = ImmutableList.copyOf(products);
+        this.productsById = Maps.uniqueIndex(products, ProductsPostRequestBody::getId);
+        ImmutableListMultimap.Builder<String, ProductsPostRequestBody> productsByKindIdBuilder =
+            ImmutableListMultimap.builder();
+        products.stream()
+            .filter(product -> product.getProductKindId() != null)
+            .forEach(product -> productsByKindIdBuilder.put(product.getProductKindId(), product));
+        this.productsByKindId = productsByKindIdBuilder.build();
+    }
+
+    /**
+     * The catalog is loaded when it is first used.
+     */
+    private static class Holder {
+
+        private static final ProductCatalog INSTANCE = new ProductCatalog(new ProductReader().load());
+    }
+
+    public static ProductCatalog getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public List<ProductsPostRequestBody> getProducts() {
+        return products;
+    }
+
+    public ProductsPostRequestBody getProduct(String productId) {
+        ProductsPostRequestBody product = productsById.get(productId);
+        if (product == null) {
+            throw new IllegalArgumentException(String.format("No product found by id: %s", productId));
+        }
+        return product;
+    }
+
+    public List<ProductsPostRequestBody> getProductsOfKind(String productKindId) {
+        return productsByKindId.get(productKindId);
+    }
+}
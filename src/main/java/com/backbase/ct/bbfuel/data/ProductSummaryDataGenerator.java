@@ -1,7 +1,10 @@
 package com.backbase.ct.bbfuel.data;
 
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_BALANCE_HISTORY_DAYS;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_BALANCE_HISTORY_WEEKS;
 import static com.backbase.ct.bbfuel.util.CommonHelpers.generateRandomAmountInRange;
 import static com.backbase.ct.bbfuel.util.CommonHelpers.generateRandomNumberInRange;
+import static com.backbase.ct.bbfuel.util.CommonHelpers.generateRandomUuid;
 import static com.backbase.ct.bbfuel.util.CommonHelpers.getRandomFromEnumValues;
 import static com.backbase.ct.bbfuel.util.CommonHelpers.getRandomFromList;
 import static com.backbase.integration.arrangement.rest.spec.v2.arrangements.ArrangementsPostRequestBodyParent.AccountHolderCountry;
@@ -9,24 +12,21 @@ import static com.backbase.integration.arrangement.rest.spec.v2.arrangements.Arr
 import static com.backbase.integration.arrangement.rest.spec.v2.arrangements.ArrangementsPostRequestBodyParent.Currency.EUR;
 import static java.lang.String.valueOf;
 import static java.util.Arrays.asList;
-import static org.apache.commons.collections.ListUtils.synchronizedList;
+import static java.util.stream.Collectors.toList;
 
 import com.backbase.ct.bbfuel.dto.entitlement.ProductGroupSeed;
-import com.backbase.ct.bbfuel.input.ProductReader;
 import com.backbase.ct.bbfuel.util.GlobalProperties;
+import com.backbase.ct.bbfuel.util.SeededRandom;
 import com.backbase.integration.arrangement.rest.spec.v2.arrangements.ArrangementsPostRequestBody;
 import com.backbase.integration.arrangement.rest.spec.v2.arrangements.DebitCard;
 import com.backbase.integration.arrangement.rest.spec.v2.balancehistory.BalanceHistoryPostRequestBody;
-import com.backbase.integration.arrangement.rest.spec.v2.products.ProductsPostRequestBody;
-import com.github.javafaker.Faker;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
-import java.util.UUID;
 import java.util.Collections;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Random;
 import java.util.stream.IntStream;
 import org.apache.commons.lang.time.DateUtils;
 import org.iban4j.CountryCode;
@@ -35,11 +35,7 @@ import org.iban4j.Iban;
 public class ProductSummaryDataGenerator {
 
     private static GlobalProperties globalProperties = GlobalProperties.getInstance();
-    private static final ProductReader productReader = new ProductReader();
-    private static Faker faker = new Faker();
     private static final List<CountryCode> COUNTRY_CODES;
-    private static final int WEEKS_IN_A_QUARTER = 13;
-    private static final int DAYS_IN_A_WEEK = 7;
 
     static {
         List<String> allowed = asList("AT", "BE", "BG", "CH", "CY", "CZ", "DE", "DK", "EE", "ES", "FI", "FR", "GB",
@@ -56,113 +52,112 @@ public class ProductSummaryDataGenerator {
     }
 
     static String generateRandomIban() {
-        return Iban.random(getRandomFromList(COUNTRY_CODES)).toString();
+        return generateRandomIban(SeededRandom.current());
     }
 
-    public static List<ProductsPostRequestBody> getProductsFromFile() {
-        return productReader.load();
+    static String generateRandomIban(Random random) {
+        return new Iban.Builder(random)
+            .countryCode(COUNTRY_CODES.get(random.nextInt(COUNTRY_CODES.size())))
+            .buildRandom()
+            .toString();
     }
 
     private static String getProductTypeNameFromProductsInputFile(String productId) {
-        List<ProductsPostRequestBody> productsPostRequestBodies = getProductsFromFile();
-
-        ProductsPostRequestBody product = productsPostRequestBodies.stream()
-            .filter(productsPostRequestBody -> productId.equals(productsPostRequestBody.getId()))
-            .findFirst()
-            .orElseThrow(() -> new RuntimeException(String.format("No product found by id: %s", productId)));
-
-        return product.getProductTypeName();
+        return ProductCatalog.getInstance().getProduct(productId).getProductTypeName();
     }
 
+    /**
+     * Arrangements are generated in parallel, each with a random split off the random of the caller by its index.
+     */
     public static List<ArrangementsPostRequestBody> generateCurrentAccountArrangementsPostRequestBodies(
         String externalLegalEntityId, ProductGroupSeed productGroupSeed, int numberOfArrangements) {
-        List<ArrangementsPostRequestBody> arrangementsPostRequestBodies = synchronizedList(new ArrayList<>());
-
-        IntStream.range(0, numberOfArrangements).parallel().forEach(randomNumber -> {
-            int randomCurrentAccountIndex = ThreadLocalRandom.current().nextInt(productGroupSeed.getCurrentAccountNames().size());
-            // To support specific currency - account name map such as in the International Trade product group example
-            int randomCurrencyIndex = productGroupSeed.getCurrencies().size() == productGroupSeed.getCurrentAccountNames().size()
-                ? randomCurrentAccountIndex : ThreadLocalRandom.current().nextInt(productGroupSeed.getCurrencies().size());
-
-            int currentAccountNameIndex = randomNumber < productGroupSeed.getCurrentAccountNames().size() ? randomNumber
-                : randomCurrentAccountIndex;
-            int currencyIndex = randomNumber < productGroupSeed.getCurrencies().size() ? randomNumber
-                : randomCurrencyIndex;
-
-            String currentAccountName = productGroupSeed.getCurrentAccountNames().get(currentAccountNameIndex);
-            Currency currency = productGroupSeed.getCurrencies().get(currencyIndex);
-            ArrangementsPostRequestBody arrangementsPostRequestBody = getArrangementsPostRequestBody(
-                externalLegalEntityId, currentAccountName, currency, 1);
-
-            HashSet<DebitCard> debitCards = new HashSet<>();
-
-            for (int i = 0; i < productGroupSeed.getNumberOfDebitCards().getRandomNumberInRange(); i++) {
-                debitCards.add(new DebitCard()
-                    .withNumber(String.valueOf(generateRandomNumberInRange(1111, 9999)))
-                    .withExpiryDate(faker.business()
-                        .creditCardExpiry()));
-            }
+        Long seed = SeededRandom.currentSeed();
 
-            arrangementsPostRequestBody.withDebitCards(debitCards);
+        return IntStream.range(0, numberOfArrangements).parallel()
+            .mapToObj(randomNumber -> SeededRandom.callSplit(seed, randomNumber,
+                () -> generateCurrentAccountArrangementsPostRequestBody(externalLegalEntityId, productGroupSeed,
+                    randomNumber)))
+            .collect(toList());
+    }
 
-            arrangementsPostRequestBodies.add(arrangementsPostRequestBody);
-        });
+    private static ArrangementsPostRequestBody generateCurrentAccountArrangementsPostRequestBody(
+        String externalLegalEntityId, ProductGroupSeed productGroupSeed, int randomNumber) {
+        int randomCurrentAccountIndex = SeededRandom.current().nextInt(productGroupSeed.getCurrentAccountNames().size());
+        // To support specific currency - account name map such as in the International Trade product group example
+        int randomCurrencyIndex = productGroupSeed.getCurrencies().size() == productGroupSeed.getCurrentAccountNames().size()
+            ? randomCurrentAccountIndex : SeededRandom.current().nextInt(productGroupSeed.getCurrencies().size());
+
+        int currentAccountNameIndex = randomNumber < productGroupSeed.getCurrentAccountNames().size() ? randomNumber
+            : randomCurrentAccountIndex;
+        int currencyIndex = randomNumber < productGroupSeed.getCurrencies().size() ? randomNumber
+            : randomCurrencyIndex;
+
+        String currentAccountName = productGroupSeed.getCurrentAccountNames().get(currentAccountNameIndex);
+        Currency currency = productGroupSeed.getCurrencies().get(currencyIndex);
+        ArrangementsPostRequestBody arrangementsPostRequestBody = getArrangementsPostRequestBody(
+            externalLegalEntityId, currentAccountName, currency, 1);
+
+        HashSet<DebitCard> debitCards = new HashSet<>();
+
+        for (int i = 0; i < productGroupSeed.getNumberOfDebitCards().getRandomNumberInRange(); i++) {
+            debitCards.add(new DebitCard()
+                .withNumber(String.valueOf(generateRandomNumberInRange(1111, 9999)))
+                .withExpiryDate(ValuePool.creditCardExpiry()));
+        }
 
-        return arrangementsPostRequestBodies;
+        return arrangementsPostRequestBody.withDebitCards(debitCards);
     }
 
     public static List<ArrangementsPostRequestBody> generateNonCurrentAccountArrangementsPostRequestBodies(
         String externalLegalEntityId, ProductGroupSeed productGroupSeed, int numberOfArrangements) {
-        List<ArrangementsPostRequestBody> arrangementsPostRequestBodies = synchronizedList(new ArrayList<>());
-
-        IntStream.range(0, numberOfArrangements).parallel().forEach(randomNumber -> {
-            Currency currency = getRandomFromList(productGroupSeed.getCurrencies());
-            String productId = getRandomFromList(productGroupSeed.getProductIds());
-            String arrangementName = getProductTypeNameFromProductsInputFile(productId);
-            ArrangementsPostRequestBody arrangementsPostRequestBody = getArrangementsPostRequestBody(
-                externalLegalEntityId, arrangementName, currency, Integer.valueOf(productId));
-
-            arrangementsPostRequestBodies.add(arrangementsPostRequestBody);
-        });
-
-        return arrangementsPostRequestBodies;
+        Long seed = SeededRandom.currentSeed();
+
+        return IntStream.range(0, numberOfArrangements).parallel()
+            .mapToObj(randomNumber -> SeededRandom.callSplit(seed, randomNumber, () -> {
+                Currency currency = getRandomFromList(productGroupSeed.getCurrencies());
+                String productId = getRandomFromList(productGroupSeed.getProductIds());
+                String arrangementName = getProductTypeNameFromProductsInputFile(productId);
+                return getArrangementsPostRequestBody(
+                    externalLegalEntityId, arrangementName, currency, Integer.valueOf(productId));
+            }))
+            .collect(toList());
     }
 
     private static ArrangementsPostRequestBody getArrangementsPostRequestBody(String externalLegalEntityId,
         String currentAccountName, Currency currency, int productId) {
         String accountNumber = currency == EUR
             ? generateRandomIban() : valueOf(generateRandomNumberInRange(0, 999999999));
-        String bic = faker.finance().bic();
+        String bic = ValuePool.bic();
         String arrangementNameSuffix =
             " " + currency + " " + bic.substring(0, 3) + accountNumber.substring(accountNumber.length() - 3);
         String fullArrangementName = currentAccountName + arrangementNameSuffix;
 
         ArrangementsPostRequestBody arrangementsPostRequestBody = new ArrangementsPostRequestBody()
-            .withId(UUID.randomUUID().toString())
+            .withId(generateRandomUuid())
             .withLegalEntityIds(Collections.singleton(externalLegalEntityId))
             .withProductId(String.valueOf(productId))
             .withName(fullArrangementName)
-            .withAlias(faker.lorem().characters(10))
+            .withAlias(ValuePool.characters(10))
             .withBookedBalance(generateRandomAmountInRange(10000L, 9999999L))
             .withAvailableBalance(generateRandomAmountInRange(10000L, 9999999L))
             .withCreditLimit(generateRandomAmountInRange(10000L, 999999L))
             .withCurrency(currency)
             .withExternalTransferAllowed(true)
             .withUrgentTransferAllowed(true)
-            .withAccruedInterest(BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(10)))
-            .withNumber(String.format("%s", ThreadLocalRandom.current().nextInt(9999)))
+            .withAccruedInterest(BigDecimal.valueOf(SeededRandom.current().nextInt(10)))
+            .withNumber(String.format("%s", SeededRandom.current().nextInt(9999)))
             .withPrincipalAmount(generateRandomAmountInRange(10000L, 999999L))
             .withCurrentInvestmentValue(generateRandomAmountInRange(10000L, 999999L))
             .withDebitAccount(productId == 1 || productId == 2)
             .withCreditAccount(productId == 1 || productId == 2)
-            .withAccountHolderName(faker.name().fullName())
-            .withAccountHolderAddressLine1(faker.address().streetAddress())
-            .withAccountHolderAddressLine2(faker.address().secondaryAddress())
-            .withAccountHolderStreetName(faker.address().streetAddress())
-            .withPostCode(faker.address().zipCode())
-            .withTown(faker.address().city())
+            .withAccountHolderName(ValuePool.fullName())
+            .withAccountHolderAddressLine1(ValuePool.streetAddress())
+            .withAccountHolderAddressLine2(ValuePool.secondaryAddress())
+            .withAccountHolderStreetName(ValuePool.streetAddress())
+            .withPostCode(ValuePool.zipCode())
+            .withTown(ValuePool.city())
             .withAccountHolderCountry(getRandomFromEnumValues(AccountHolderCountry.values()))
-            .withCountrySubDivision(faker.address().state())
+            .withCountrySubDivision(ValuePool.state())
             .withBIC(bic);
 
         if (currency.equals(EUR)) {
@@ -179,15 +174,16 @@ public class ProductSummaryDataGenerator {
     public static List<BalanceHistoryPostRequestBody> generateBalanceHistoryPostRequestBodies(
         String externalArrangementId) {
         List<BalanceHistoryPostRequestBody> balanceHistoryPostRequestBodies = new ArrayList<>();
+        Date today = new Date();
 
-        for (int i = 0; i >= -WEEKS_IN_A_QUARTER; i--) {
+        for (int i = 0; i >= -globalProperties.getInt(PROPERTY_BALANCE_HISTORY_WEEKS); i--) {
             balanceHistoryPostRequestBodies.add(generateBalanceHistoryPostRequestBody(
-                externalArrangementId, DateUtils.addWeeks(new Date(), i)));
+                externalArrangementId, DateUtils.addWeeks(today, i)));
         }
 
-        for (int i = 0; i >= -DAYS_IN_A_WEEK; i--) {
+        for (int i = 0; i >= -globalProperties.getInt(PROPERTY_BALANCE_HISTORY_DAYS); i--) {
             balanceHistoryPostRequestBodies.add(generateBalanceHistoryPostRequestBody(
-                externalArrangementId, DateUtils.addDays(new Date(), i)));
+                externalArrangementId, DateUtils.addDays(today, i)));
         }
 
         return balanceHistoryPostRequestBodies;
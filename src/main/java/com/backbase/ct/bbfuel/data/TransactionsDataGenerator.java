@@ -1,26 +1,26 @@
 package com.backbase.ct.bbfuel.data;
 
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_TRANSACTIONS_HISTORY_DAYS;
 import static com.backbase.ct.bbfuel.util.CommonHelpers.generateRandomNumberInRange;
+import static com.backbase.ct.bbfuel.util.CommonHelpers.generateRandomUuid;
 import static com.backbase.ct.bbfuel.util.CommonHelpers.getRandomFromEnumValues;
 import static com.backbase.ct.bbfuel.util.CommonHelpers.getRandomFromList;
 import static com.backbase.integration.transaction.external.rest.spec.v2.transactions.TransactionsPostRequestBody.CreditDebitIndicator.CRDT;
 import static java.util.Arrays.asList;
 
 import com.backbase.ct.bbfuel.util.CommonHelpers;
+import com.backbase.ct.bbfuel.util.GlobalProperties;
 import com.backbase.integration.transaction.external.rest.spec.v2.transactions.TransactionsPostRequestBody;
 import com.backbase.integration.transaction.external.rest.spec.v2.transactions.TransactionsPostRequestBody.CreditDebitIndicator;
 import com.backbase.presentation.categories.management.rest.spec.v2.categories.SubCategory;
-import com.github.javafaker.Faker;
 import java.util.Date;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 import org.apache.commons.lang.time.DateUtils;
-import org.iban4j.Iban;
 
 public class TransactionsDataGenerator {
 
-    private static Faker faker = new Faker();
+    private static GlobalProperties globalProperties = GlobalProperties.getInstance();
     private static final String EUR_CURRENCY = "EUR";
     private static final List<String> TRANSACTION_TYPE_GROUPS = asList(
         "Payment",
@@ -91,6 +91,7 @@ public class TransactionsDataGenerator {
     public static TransactionsPostRequestBody generateTransactionsPostRequestBody(String externalArrangementId,
         boolean isRetail, List<SubCategory> categories) {
         CreditDebitIndicator creditDebitIndicator = getRandomFromEnumValues(CreditDebitIndicator.values());
+        int historyDays = globalProperties.getInt(PROPERTY_TRANSACTIONS_HISTORY_DAYS);
 
         String finalCategory;
 
@@ -116,25 +117,25 @@ public class TransactionsDataGenerator {
                 : getRandomFromList(DEBIT_BUSINESS_CATEGORIES);
         }
 
-        return new TransactionsPostRequestBody().withId(UUID.randomUUID().toString())
+        return new TransactionsPostRequestBody().withId(generateRandomUuid())
             .withArrangementId(externalArrangementId)
-            .withReference(faker.lorem().characters(10))
-            .withDescription(faker.lorem().sentence().replace(".", ""))
+            .withReference(ValuePool.characters(10))
+            .withDescription(ValuePool.sentence())
             .withTypeGroup(getRandomFromList(TRANSACTION_TYPE_GROUPS))
             .withType(getRandomFromList(TRANSACTION_TYPES))
             .withCategory(finalCategory)
-            .withBookingDate(DateUtils.addDays(new Date(), generateRandomNumberInRange(-365, 0)))
-            .withValueDate(DateUtils.addDays(new Date(), generateRandomNumberInRange(-365, 0)))
+            .withBookingDate(DateUtils.addDays(new Date(), generateRandomNumberInRange(-historyDays, 0)))
+            .withValueDate(DateUtils.addDays(new Date(), generateRandomNumberInRange(-historyDays, 0)))
             .withAmount(CommonHelpers.generateRandomAmountInRange(100L, 9999L))
             .withCurrency(EUR_CURRENCY)
             .withCreditDebitIndicator(creditDebitIndicator)
             .withInstructedAmount(CommonHelpers.generateRandomAmountInRange(100L, 9999L))
             .withInstructedCurrency(EUR_CURRENCY)
             .withCurrencyExchangeRate(CommonHelpers.generateRandomAmountInRange(1L, 2L))
-            .withCounterPartyName(faker.name().fullName())
-            .withCounterPartyAccountNumber(Iban.random().toString())
-            .withCounterPartyBIC(faker.finance().bic())
-            .withCounterPartyCountry(faker.address().countryCode())
-            .withCounterPartyBankName(faker.company().name());
+            .withCounterPartyName(ValuePool.fullName())
+            .withCounterPartyAccountNumber(ValuePool.iban())
+            .withCounterPartyBIC(ValuePool.bic())
+            .withCounterPartyCountry(ValuePool.countryCode())
+            .withCounterPartyBankName(ValuePool.companyName());
     }
 }
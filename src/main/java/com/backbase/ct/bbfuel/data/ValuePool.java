@@ -0,0 +1,190 @@
+package com.backbase.ct.bbfuel.data;
+
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_VALUE_POOL_SIZE;
+import static com.backbase.ct.bbfuel.util.CommonHelpers.getRandomFromList;
+
+import com.backbase.ct.bbfuel.util.GlobalProperties;
+import com.backbase.ct.bbfuel.util.SeededRandom;
+import com.github.javafaker.Faker;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Fake values generated once per run and sampled by the data generators. Generating a value with Faker means looking
+ * it up in its yaml files and resolving expressions, which is too slow when generating large amounts of data. The
+ * number of values per kind is set with {@code value.pool.size}.
+ * <p>
+ * Values are sampled with the {@link SeededRandom}, and the pool itself is generated from the data seed when set.
+ */
+public final class ValuePool {
+
+    private static final char[] CHARACTERS = "abcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+    private static final String SEED_KEY = "value-pool";
+
+    private final List<String> fullNames;
+    private final List<String> personNames;
+    private final List<String> legalEntityNames;
+    private final List<String> streetAddresses;
+    private final List<String> secondaryAddresses;
+    private final List<String> zipCodes;
+    private final List<String> cities;
+    private final List<String> states;
+    private final List<String> countryCodes;
+    private final List<String> companyNames;
+    private final List<String> bics;
+    private final List<String> ibans;
+    private final List<String> sentences;
+    private final List<String> shortSentences;
+    private final List<String> paragraphs;
+    private final List<String> urls;
+    private final List<String> emailAddresses;
+    private final List<String> phoneNumbers;
+    private final List<String> creditCardExpiryDates;
+
+    private ValuePool(int size) {
+        Random random = SeededRandom.forKey(SEED_KEY);
+        Faker faker = new Faker(random);
+        this.fullNames = generate(size, () -> faker.name().fullName());
+        // First and last name only, the full name of faker sometimes has a prefix or suffix
+        this.personNames = generate(size, () -> faker.name().firstName() + " " + faker.name().lastName());
+        this.legalEntityNames = generate(size, () -> faker.name().lastName() + " "
+            + faker.company().industry().replaceAll("(/| or).*", "").trim());
+        this.streetAddresses = generate(size, () -> faker.address().streetAddress());
+        this.secondaryAddresses = generate(size, () -> faker.address().secondaryAddress());
+        this.zipCodes = generate(size, () -> faker.address().zipCode());
+        this.cities = generate(size, () -> faker.address().city());
+        this.states = generate(size, () -> faker.address().state());
+        this.countryCodes = generate(size, () -> faker.address().countryCode());
+        this.companyNames = generate(size, () -> faker.company().name());
+        this.bics = generate(size, () -> faker.finance().bic());
+        this.ibans = generate(size, () -> ProductSummaryDataGenerator.generateRandomIban(random));
+        this.sentences = generate(size, () -> faker.lorem().sentence().replace(".", ""));
+        this.shortSentences = generate(size, () -> faker.lorem().sentence(3, 0).replace(".", ""));
+        this.paragraphs = generate(size, () -> faker.lorem().paragraph());
+        this.urls = generate(size, () -> faker.internet().url());
+        this.emailAddresses = generate(size, () -> faker.internet().emailAddress());
+        this.phoneNumbers = generate(size, () -> faker.phoneNumber().phoneNumber());
+        this.creditCardExpiryDates = generate(size, () -> faker.business().creditCardExpiry());
+    }
+
+    private static <T> List<T> generate(int size, Supplier<T> supplier) {
+        List<T> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(supplier.get());
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    /**
+     * The pool is generated when it is first used.
+     */
+    private static class Holder {
+
+        private static final ValuePool INSTANCE =
+            new ValuePool(GlobalProperties.getInstance().getInt(PROPERTY_VALUE_POOL_SIZE));
+    }
+
+    public static String fullName() {
+        return getRandomFromList(Holder.INSTANCE.fullNames);
+    }
+
+    /**
+     * @return a first and last name.
+     */
+    public static String personName() {
+        return getRandomFromList(Holder.INSTANCE.personNames);
+    }
+
+    /**
+     * @return a last name followed by an industry.
+     */
+    public static String legalEntityName() {
+        return getRandomFromList(Holder.INSTANCE.legalEntityNames);
+    }
+
+    public static String streetAddress() {
+        return getRandomFromList(Holder.INSTANCE.streetAddresses);
+    }
+
+    public static String secondaryAddress() {
+        return getRandomFromList(Holder.INSTANCE.secondaryAddresses);
+    }
+
+    public static String zipCode() {
+        return getRandomFromList(Holder.INSTANCE.zipCodes);
+    }
+
+    public static String city() {
+        return getRandomFromList(Holder.INSTANCE.cities);
+    }
+
+    public static String state() {
+        return getRandomFromList(Holder.INSTANCE.states);
+    }
+
+    public static String countryCode() {
+        return getRandomFromList(Holder.INSTANCE.countryCodes);
+    }
+
+    public static String companyName() {
+        return getRandomFromList(Holder.INSTANCE.companyNames);
+    }
+
+    public static String bic() {
+        return getRandomFromList(Holder.INSTANCE.bics);
+    }
+
+    public static String iban() {
+        return getRandomFromList(Holder.INSTANCE.ibans);
+    }
+
+    /**
+     * @return a sentence without period.
+     */
+    public static String sentence() {
+        return getRandomFromList(Holder.INSTANCE.sentences);
+    }
+
+    /**
+     * @return a sentence of three words without period.
+     */
+    public static String shortSentence() {
+        return getRandomFromList(Holder.INSTANCE.shortSentences);
+    }
+
+    public static String paragraph() {
+        return getRandomFromList(Holder.INSTANCE.paragraphs);
+    }
+
+    public static String url() {
+        return getRandomFromList(Holder.INSTANCE.urls);
+    }
+
+    public static String emailAddress() {
+        return getRandomFromList(Holder.INSTANCE.emailAddresses);
+    }
+
+    public static String phoneNumber() {
+        return getRandomFromList(Holder.INSTANCE.phoneNumbers);
+    }
+
+    public static String creditCardExpiry() {
+        return getRandomFromList(Holder.INSTANCE.creditCardExpiryDates);
+    }
+
+    /**
+     * Random lower case letters and digits, like Faker's lorem characters. These are not pooled as they are often used
+     * as references that should differ.
+     */
+    public static String characters(int length) {
+        Random random = SeededRandom.current();
+        char[] characters = new char[length];
+        for (int i = 0; i < length; i++) {
+            characters[i] = CHARACTERS[random.nextInt(CHARACTERS.length)];
+        }
+        return new String(characters);
+    }
+}
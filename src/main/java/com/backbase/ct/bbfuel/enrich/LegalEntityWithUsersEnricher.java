@@ -1,12 +1,14 @@
 package com.backbase.ct.bbfuel.enrich;
 
+import static com.backbase.ct.bbfuel.data.CommonConstants.LEGAL_ENTITY_NAME_FORMAT;
 import static com.backbase.ct.bbfuel.util.CommonHelpers.splitDelimitedWordToSingleCapatilizedWords;
 
+import com.backbase.ct.bbfuel.data.ValuePool;
 import com.backbase.ct.bbfuel.dto.Category;
 import com.backbase.ct.bbfuel.dto.LegalEntityWithUsers;
 import com.backbase.ct.bbfuel.dto.User;
 import com.backbase.ct.bbfuel.dto.entitlement.JobProfile;
-import com.github.javafaker.Faker;
+import com.backbase.ct.bbfuel.util.SeededRandom;
 import java.util.List;
 import org.apache.commons.lang.StringUtils;
 import org.springframework.stereotype.Component;
@@ -14,13 +16,14 @@ import org.springframework.stereotype.Component;
 @Component
 public class LegalEntityWithUsersEnricher {
 
-    private static final Faker FAKER = new Faker();
-
     /**
-     * Build it up with first and last name because faker fullname method sometimes adds prefix or suffix.
+     * Build it up with first and last name because faker fullname method sometimes adds prefix or suffix. The name is
+     * seeded by the given external id when set, so it is the same in every run with the same data seed.
      */
-    private static String buildFakerFullName() {
-        return FAKER.name().firstName() + " " + FAKER.name().lastName();
+    private static String buildFakerFullName(String externalId) {
+        return externalId == null
+            ? ValuePool.personName()
+            : SeededRandom.callSeeded(externalId, ValuePool::personName);
     }
 
     /**
@@ -39,7 +42,7 @@ public class LegalEntityWithUsersEnricher {
         return User.builder()
             .externalId(externalId)
             .role(JobProfile.PROFILE_ROLE_ADMIN)
-            .fullName(buildFakerFullName()).build();
+            .fullName(buildFakerFullName(externalId)).build();
     }
 
     private static boolean isRetailUser(LegalEntityWithUsers legalEntityWithUsers) {
@@ -64,11 +67,21 @@ public class LegalEntityWithUsersEnricher {
         }
         legalEntity.setLegalEntityName(
             legalEntity.getCategory().isRetail()
-                ? buildFakerFullName()
+                ? buildRetailLegalEntityName(legalEntity.getLegalEntityExternalId())
                 : legalEntity.getLegalEntityName()
         );
     }
 
+    /**
+     * Legal entity names are unique, so the fake name of a retail legal entity is followed by its external id. Without
+     * external id the name is left to the ingestion, which generates the external id.
+     */
+    private static String buildRetailLegalEntityName(String externalId) {
+        return externalId == null
+            ? null
+            : String.format(LEGAL_ENTITY_NAME_FORMAT, buildFakerFullName(externalId), externalId);
+    }
+
     private void enrichUsers(List<User> users) {
         users.forEach(this::enrichUser);
     }
@@ -83,7 +96,7 @@ public class LegalEntityWithUsersEnricher {
             if (user.getExternalId().matches(".*[_.].*")) {
                 user.setFullName(splitDelimitedWordToSingleCapatilizedWords(user.getExternalId(), "_."));
             } else {
-                user.setFullName(buildFakerFullName());
+                user.setFullName(buildFakerFullName(user.getExternalId()));
             }
         }
         if (StringUtils.isEmpty(user.getRole())) {
@@ -20,6 +20,8 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class AccessControlHealthCheck {
 
+    private final HealthCheck healthCheck;
+
     private final AccessGroupIntegrationRestClient accessGroupIntegrationRestClient;
     private final AccessGroupPresentationRestClient accessGroupPresentationRestClient;
     private final ServiceAgreementsIntegrationRestClient serviceAgreementsIntegrationRestClient;
@@ -31,7 +33,6 @@ public class AccessControlHealthCheck {
     private GlobalProperties globalProperties = GlobalProperties.getInstance();
 
     public void checkAccessControlServicesHealth() {
-        HealthCheck healthCheck = new HealthCheck();
         long healthCheckTimeOutInMinutes = globalProperties
             .getLong(CommonConstants.PROPERTY_HEALTH_CHECK_TIMEOUT_IN_MINUTES);
 
@@ -13,13 +13,14 @@ import org.springframework.stereotype.Component;
 @Component
 @RequiredArgsConstructor
 public class BillPayHealthCheck {
+
+    private final HealthCheck healthCheck;
     
     private GlobalProperties globalProperties = GlobalProperties.getInstance();
     
     private final BillPayPresentationRestClient billPayPresentationRestClient;
     
     public void checkBillPayServicesHealth() {
-        HealthCheck healthCheck = new HealthCheck();
         long healthCheckTimeOutInMinutes = globalProperties
                         .getLong(CommonConstants.PROPERTY_HEALTH_CHECK_TIMEOUT_IN_MINUTES);
         boolean ingestBillPay = globalProperties.getBoolean(CommonConstants.PROPERTY_INGEST_BILLPAY);
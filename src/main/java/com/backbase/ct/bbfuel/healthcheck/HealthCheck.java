@@ -4,49 +4,52 @@ import com.backbase.ct.bbfuel.client.common.RestClient;
 import com.backbase.ct.bbfuel.data.CommonConstants;
 import com.backbase.ct.bbfuel.util.CommonHelpers;
 import com.backbase.ct.bbfuel.util.GlobalProperties;
+import com.backbase.ct.bbfuel.util.IngestExecutor;
 import java.util.List;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class HealthCheck {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HealthCheck.class);
     private GlobalProperties globalProperties = GlobalProperties.getInstance();
+    private final IngestExecutor ingestExecutor;
 
     public void checkServicesHealth(List<RestClient> restClients) {
         long healthCheckTimeOutInMinutes = globalProperties
             .getLong(CommonConstants.PROPERTY_HEALTH_CHECK_TIMEOUT_IN_MINUTES);
         long timeOutInMillis = CommonHelpers.convertMinutesToMillis(healthCheckTimeOutInMinutes);
 
-        restClients.parallelStream()
-            .forEach(restClient -> {
-                String serviceUri = restClient.getBaseURI().toString() + "/" + restClient.getInitialPath();
-                long startTime = System.currentTimeMillis();
-                while (System.currentTimeMillis() - startTime < timeOutInMillis) {
-                    try {
-                        // Wait between retries to avoid network storm.
-                        if (restClient.isUp()) {
-                            LOGGER.info(
-                                "[" + serviceUri + "] online after " + (System.currentTimeMillis()
-                                    - startTime) + " milliseconds");
-                            return;
-                        } else {
-                            LOGGER.info("[" + serviceUri + "] not available");
-                        }
-                    } catch (Exception ex) {
+        ingestExecutor.forEach(restClients, restClients.size(), restClient -> {
+            String serviceUri = restClient.getBaseURI().toString() + "/" + restClient.getInitialPath();
+            long startTime = System.currentTimeMillis();
+            while (System.currentTimeMillis() - startTime < timeOutInMillis) {
+                try {
+                    // Wait between retries to avoid network storm.
+                    if (restClient.isUp()) {
+                        LOGGER.info(
+                            "[" + serviceUri + "] online after " + (System.currentTimeMillis()
+                                - startTime) + " milliseconds");
+                        return;
+                    } else {
                         LOGGER.info("[" + serviceUri + "] not available");
                     }
+                } catch (Exception ex) {
+                    LOGGER.info("[" + serviceUri + "] not available");
+                }
 
-                    try {
-                        Thread.sleep(10000);
-                    } catch (InterruptedException e) {
-                        LOGGER.info("Sleep cancelled", e);
-                        Thread.currentThread().interrupt();
-                    }
+                try {
+                    Thread.sleep(10000);
+                } catch (InterruptedException e) {
+                    LOGGER.info("Sleep cancelled", e);
+                    Thread.currentThread().interrupt();
                 }
-                throw new IllegalStateException("[" + serviceUri + "] timed out");
-            });
+            }
+            throw new IllegalStateException("[" + serviceUri + "] timed out");
+        });
     }
 }
@@ -14,6 +14,8 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ProductSummaryHealthCheck {
 
+    private final HealthCheck healthCheck;
+
     private final ArrangementsIntegrationRestClient arrangementsIntegrationRestClient;
 
     private final ProductSummaryPresentationRestClient productSummaryPresentationRestClient;
@@ -21,7 +23,6 @@ public class ProductSummaryHealthCheck {
     private GlobalProperties globalProperties = GlobalProperties.getInstance();
 
     public void checkProductSummaryServicesHealth() {
-        HealthCheck healthCheck = new HealthCheck();
         long healthCheckTimeOutInMinutes = globalProperties
             .getLong(CommonConstants.PROPERTY_HEALTH_CHECK_TIMEOUT_IN_MINUTES);
 
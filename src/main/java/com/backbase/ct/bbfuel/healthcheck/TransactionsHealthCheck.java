@@ -15,12 +15,13 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class TransactionsHealthCheck {
 
+    private final HealthCheck healthCheck;
+
     private GlobalProperties globalProperties = GlobalProperties.getInstance();
 
     private final TransactionsIntegrationRestClient transactionsIntegrationRestClient;
 
     public void checkTransactionsServicesHealth() {
-        HealthCheck healthCheck = new HealthCheck();
         long healthCheckTimeOutInMinutes = globalProperties
             .getLong(CommonConstants.PROPERTY_HEALTH_CHECK_TIMEOUT_IN_MINUTES);
         boolean ingestTransactions = globalProperties.getBoolean(CommonConstants.PROPERTY_INGEST_TRANSACTIONS);
@@ -0,0 +1,141 @@
+package com.backbase.ct.bbfuel.input;
+
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_POPULATION_BUSINESS_LEGAL_ENTITIES;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_POPULATION_BUSINESS_USERS_MAX;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_POPULATION_BUSINESS_USERS_MIN;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_POPULATION_PRODUCT_GROUPS_PER_USER;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_POPULATION_RETAIL_LEGAL_ENTITIES;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_POPULATION_SCALE;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+import com.backbase.ct.bbfuel.dto.Category;
+import com.backbase.ct.bbfuel.dto.LegalEntityWithUsers;
+import com.backbase.ct.bbfuel.dto.User;
+import com.backbase.ct.bbfuel.dto.entitlement.JobProfile;
+import com.backbase.ct.bbfuel.dto.entitlement.ProductGroupSeed;
+import com.backbase.ct.bbfuel.enrich.LegalEntityWithUsersEnricher;
+import com.backbase.ct.bbfuel.util.GlobalProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generator of a synthetic population of legal entities with users, used instead of the legal entities json file when
+ * {@code population.scale} is set. It generates {@code population.retail.legal.entities} retail legal entities with
+ * one user and {@code population.business.legal.entities} business legal entities with a number of users between
+ * {@code population.business.users.min} and {@code population.business.users.max}, both multiplied by the scale.
+ * <p>
+ * External ids and legal entity names are numbered and the number of users per legal entity is derived from its
+ * number, so every run generates the same population. Legal entity names have to be unique, which names from the value
+ * pool are not.
+ */
+@Component
+@RequiredArgsConstructor
+public class LegalEntityWithUsersGenerator {
+
+    private static final String LEGAL_ENTITY_EXTERNAL_ID_FORMAT = "LE%07d";
+    private static final String RETAIL_LEGAL_ENTITY_NAME_FORMAT = "Customer %07d";
+    private static final String BUSINESS_LEGAL_ENTITY_NAME_FORMAT = "Company %07d";
+    private static final String USER_EXTERNAL_ID_FORMAT = "U%07d";
+    private static final String ROLE_MANAGER = "manager";
+    private static final String ROLE_EMPLOYEE = "employee";
+
+    private final LegalEntityWithUsersEnricher legalEntityWithUsersEnricher;
+    private GlobalProperties globalProperties = GlobalProperties.getInstance();
+
+    public boolean isEnabled() {
+        return globalProperties.getInt(PROPERTY_POPULATION_SCALE) > 0;
+    }
+
+    /**
+     * Generate the configured population one legal entity at a time.
+     */
+    public void stream(List<ProductGroupSeed> productGroupSeeds, Consumer<LegalEntityWithUsers> consumer) {
+        int scale = globalProperties.getInt(PROPERTY_POPULATION_SCALE);
+        stream(scale * globalProperties.getInt(PROPERTY_POPULATION_RETAIL_LEGAL_ENTITIES),
+            scale * globalProperties.getInt(PROPERTY_POPULATION_BUSINESS_LEGAL_ENTITIES),
+            productGroupSeeds, consumer);
+    }
+
+    /**
+     * Generate the retail legal entities first, then the business legal entities. The first user of a business
+     * legal entity is an admin, the second a manager and the others are employees. Users are assigned
+     * {@code population.product.groups.per.user} product groups of their category, or all when not set.
+     */
+    public void stream(int retailLegalEntities, int businessLegalEntities, List<ProductGroupSeed> productGroupSeeds,
+        Consumer<LegalEntityWithUsers> consumer) {
+        int minUsers = globalProperties.getInt(PROPERTY_POPULATION_BUSINESS_USERS_MIN);
+        int maxUsers = globalProperties.getInt(PROPERTY_POPULATION_BUSINESS_USERS_MAX);
+        int productGroupsPerUser = globalProperties.getInt(PROPERTY_POPULATION_PRODUCT_GROUPS_PER_USER);
+        if (minUsers < 1 || maxUsers < minUsers) {
+            throw new InvalidInputException(String.format("Invalid number of users per business legal entity [%s-%s]",
+                minUsers, maxUsers));
+        }
+        List<String> retailProductGroupNames = getProductGroupNames(productGroupSeeds, true);
+        List<String> businessProductGroupNames = getProductGroupNames(productGroupSeeds, false);
+
+        int userNumber = 0;
+        for (int legalEntityNumber = 1; legalEntityNumber <= retailLegalEntities + businessLegalEntities;
+            legalEntityNumber++) {
+            boolean isRetail = legalEntityNumber <= retailLegalEntities;
+            int numberOfUsers = isRetail
+                ? 1
+                : minUsers + new Random(legalEntityNumber).nextInt(maxUsers - minUsers + 1);
+
+            List<User> users = new ArrayList<>(numberOfUsers);
+            for (int index = 0; index < numberOfUsers; index++) {
+                userNumber++;
+                users.add(User.builder()
+                    .externalId(String.format(USER_EXTERNAL_ID_FORMAT, userNumber))
+                    .role(isRetail ? JobProfile.PROFILE_ROLE_ADMIN : getBusinessRole(index))
+                    .productGroupNames(assignProductGroupNames(
+                        isRetail ? retailProductGroupNames : businessProductGroupNames,
+                        productGroupsPerUser, userNumber))
+                    .build());
+            }
+
+            LegalEntityWithUsers legalEntity = LegalEntityWithUsers.builder()
+                .legalEntityExternalId(String.format(LEGAL_ENTITY_EXTERNAL_ID_FORMAT, legalEntityNumber))
+                .category(isRetail ? Category.RETAIL : Category.BUSINESS)
+                .users(users)
+                .build();
+            legalEntityWithUsersEnricher.enrich(singletonList(legalEntity));
+            legalEntity.setLegalEntityName(String.format(
+                isRetail ? RETAIL_LEGAL_ENTITY_NAME_FORMAT : BUSINESS_LEGAL_ENTITY_NAME_FORMAT, legalEntityNumber));
+            consumer.accept(legalEntity);
+        }
+    }
+
+    private static String getBusinessRole(int index) {
+        if (index == 0) {
+            return JobProfile.PROFILE_ROLE_ADMIN;
+        }
+        return index == 1 ? ROLE_MANAGER : ROLE_EMPLOYEE;
+    }
+
+    private static List<String> getProductGroupNames(List<ProductGroupSeed> productGroupSeeds, boolean isRetail) {
+        return productGroupSeeds.stream()
+            .filter(productGroupSeed -> isRetail == Boolean.TRUE.equals(productGroupSeed.getIsRetail()))
+            .map(ProductGroupSeed::getProductGroupName)
+            .collect(toList());
+    }
+
+    /**
+     * Take the product group names in turns, starting at the user number.
+     */
+    private static List<String> assignProductGroupNames(List<String> productGroupNames, int productGroupsPerUser,
+        int userNumber) {
+        if (productGroupsPerUser <= 0 || productGroupNames.isEmpty()) {
+            return null;
+        }
+        List<String> assignedProductGroupNames = new ArrayList<>();
+        for (int index = 0; index < Math.min(productGroupsPerUser, productGroupNames.size()); index++) {
+            assignedProductGroupNames.add(productGroupNames.get((userNumber + index) % productGroupNames.size()));
+        }
+        return assignedProductGroupNames;
+    }
+}
@@ -2,13 +2,17 @@ package com.backbase.ct.bbfuel.input;
 
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_LEGAL_ENTITIES_WITH_USERS_JSON;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 
 import com.backbase.ct.bbfuel.dto.LegalEntityWithUsers;
 import com.backbase.ct.bbfuel.enrich.LegalEntityWithUsersEnricher;
 import com.backbase.ct.bbfuel.util.ParserUtil;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ArrayUtils;
 import org.springframework.stereotype.Component;
@@ -44,18 +48,54 @@ public class LegalEntityWithUsersReader extends BaseReader {
     }
 
     /**
-     * Check on duplicate ids.
+     * Stream the configured json file.
+     */
+    public void stream(Consumer<LegalEntityWithUsers> consumer) {
+        stream(this.globalProperties.getString(PROPERTY_LEGAL_ENTITIES_WITH_USERS_JSON), consumer);
+    }
+
+    /**
+     * Read json file one legal entity at a time, without holding the whole file in memory. Each legal entity is
+     * validated and enriched before it is passed to the consumer, so an invalid legal entity is only detected after
+     * the ones before it are consumed.
      */
+    public void stream(String uri, Consumer<LegalEntityWithUsers> consumer) {
+        int count = 0;
+        try (JsonParser parser = ParserUtil.createJsonParser(uri)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidInputException("Expected an array of legal entities in " + uri);
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                LegalEntityWithUsers entity = parser.readValueAs(LegalEntityWithUsers.class);
+                validate(entity);
+                legalEntityWithUsersEnricher.enrich(singletonList(entity));
+                consumer.accept(entity);
+                count++;
+            }
+        } catch (IOException e) {
+            logger.error("Failed parsing file with entities", e);
+            throw new InvalidInputException(e.getMessage(), e);
+        }
+        if (count == 0) {
+            throw new InvalidInputException("No legal entities have been parsed");
+        }
+    }
+
     private void validate(LegalEntityWithUsers[] legalEntityWithUsers) {
         if (ArrayUtils.isEmpty(legalEntityWithUsers)) {
             throw new InvalidInputException("No legal entities have been parsed");
         }
-        Arrays.stream(legalEntityWithUsers).forEach(le -> {
-            List<String> ids = le.getUserExternalIds();
-            if (ids != null && le.getUsers() != null && (ids.size() != le.getUsers().size())) {
-                throw new InvalidInputException(String.format("LE [%s] has [%s] duplicate userExternalIds",
-                    le.getLegalEntityExternalId(), (le.getUsers().size() - le.getUserExternalIds().size())));
-            }
-        });
+        Arrays.stream(legalEntityWithUsers).forEach(this::validate);
+    }
+
+    /**
+     * Check on duplicate ids.
+     */
+    private void validate(LegalEntityWithUsers le) {
+        List<String> ids = le.getUserExternalIds();
+        if (ids != null && le.getUsers() != null && (ids.size() != le.getUsers().size())) {
+            throw new InvalidInputException(String.format("LE [%s] has [%s] duplicate userExternalIds",
+                le.getLegalEntityExternalId(), (le.getUsers().size() - le.getUserExternalIds().size())));
+        }
     }
 }
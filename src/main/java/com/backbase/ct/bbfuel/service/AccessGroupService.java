@@ -13,8 +13,12 @@ import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.datagroups
 import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.function.Permission;
 import com.backbase.presentation.accessgroup.rest.spec.v2.accessgroups.datagroups.DataGroupsGetResponseBody;
 import com.backbase.presentation.accessgroup.rest.spec.v2.accessgroups.functiongroups.FunctionGroupsGetResponseBody;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import io.restassured.response.Response;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +36,12 @@ public class AccessGroupService {
 
     private final ServiceAgreementsIntegrationRestClient serviceAgreementsIntegrationRestClient;
 
+    /**
+     * Ids of the data groups by name, per external service agreement id. The data groups of a service agreement are
+     * retrieved once by its entry, outside of the map compute, data groups ingested afterwards are added to its index.
+     */
+    private final Map<String, Supplier<Map<String, String>>> dataGroupIndexes = new ConcurrentHashMap<>();
+
     public String ingestFunctionGroup(String externalServiceAgreementId, String functionGroupName, List<Permission> permissions) {
         Response response = accessGroupIntegrationRestClient.ingestFunctionGroup(
             generateFunctionGroupPostRequestBody(externalServiceAgreementId, functionGroupName, permissions));
@@ -90,19 +100,20 @@ public class AccessGroupService {
                 .getMessage()
                 .equals("Function Group with given name already exists")) {
 
-            String internalServiceAgreementId = serviceAgreementsIntegrationRestClient
-                .retrieveServiceAgreementByExternalId(externalServiceAgreementId)
-                .getId();
-
             // Combination of data group name and service agreement is unique in the system
-            DataGroupsGetResponseBody existingDataGroup = accessGroupPresentationRestClient
-                .retrieveDataGroupsByServiceAgreement(internalServiceAgreementId)
-                .stream()
-                .filter(dataGroupsGetResponseBody -> dataGroupName.equals(dataGroupsGetResponseBody.getName()))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException(String.format("No existing data group found by service agreement [%s] and name [%s]", externalServiceAgreementId, dataGroupName)));
-
-            return existingDataGroup.getId();
+            String existingDataGroupId = retrieveDataGroupId(null, externalServiceAgreementId, dataGroupName);
+            if (existingDataGroupId == null) {
+                // Ingested by someone else since the data groups of the service agreement were indexed
+                dataGroupIndexes.remove(externalServiceAgreementId);
+                existingDataGroupId = retrieveDataGroupId(null, externalServiceAgreementId, dataGroupName);
+            }
+            if (existingDataGroupId == null) {
+                throw new RuntimeException(String.format(
+                    "No existing data group found by service agreement [%s] and name [%s]",
+                    externalServiceAgreementId, dataGroupName));
+            }
+
+            return existingDataGroupId;
 
         } else {
             String dataGroupId = response.then()
@@ -114,8 +125,42 @@ public class AccessGroupService {
             LOGGER.info("Data group \"{}\" [{}] ingested under service agreement [{}]",
                 dataGroupName, dataGroupId, externalServiceAgreementId);
 
+            Supplier<Map<String, String>> dataGroupIndex = dataGroupIndexes.get(externalServiceAgreementId);
+            if (dataGroupIndex != null) {
+                dataGroupIndex.get().put(dataGroupName, dataGroupId);
+            }
+
             return dataGroupId;
         }
     }
 
+    /**
+     * Find the id of a data group by name, from the data groups of the service agreement retrieved once.
+     *
+     * @param internalServiceAgreementId internal id of the service agreement, retrieved by its external id when null
+     * @param externalServiceAgreementId external id of the service agreement
+     * @param dataGroupName name of the data group
+     * @return the id of the data group, or null when the service agreement has no data group by that name
+     */
+    public String retrieveDataGroupId(String internalServiceAgreementId, String externalServiceAgreementId,
+        String dataGroupName) {
+        return dataGroupIndexes.computeIfAbsent(externalServiceAgreementId,
+            id -> Suppliers.memoize(() -> indexDataGroups(internalServiceAgreementId, id)))
+            .get()
+            .get(dataGroupName);
+    }
+
+    private Map<String, String> indexDataGroups(String internalServiceAgreementId,
+        String externalServiceAgreementId) {
+        String serviceAgreementId = internalServiceAgreementId != null ? internalServiceAgreementId
+            : serviceAgreementsIntegrationRestClient.retrieveServiceAgreementByExternalId(externalServiceAgreementId)
+                .getId();
+
+        Map<String, String> dataGroupIndex = new ConcurrentHashMap<>();
+        for (DataGroupsGetResponseBody dataGroup : accessGroupPresentationRestClient
+            .retrieveDataGroupsByServiceAgreement(serviceAgreementId)) {
+            dataGroupIndex.put(dataGroup.getName(), dataGroup.getId());
+        }
+        return dataGroupIndex;
+    }
 }
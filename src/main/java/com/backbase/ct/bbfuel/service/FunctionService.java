@@ -0,0 +1,43 @@
+package com.backbase.ct.bbfuel.service;
+
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_FUNCTION_CATALOG_TTL_SECONDS;
+import static java.util.stream.Collectors.toList;
+
+import com.backbase.ct.bbfuel.client.accessgroup.AccessGroupIntegrationRestClient;
+import com.backbase.ct.bbfuel.util.GlobalProperties;
+import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.config.functions.FunctionsGetResponseBody;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Service;
+
+/**
+ * The catalog of business functions, retrieved once and kept in memory. It is retrieved again when it is older than
+ * {@code function.catalog.ttl.seconds}, or never when that is 0.
+ */
+@Service
+public class FunctionService {
+
+    private final Supplier<List<FunctionsGetResponseBody>> functions;
+
+    public FunctionService(AccessGroupIntegrationRestClient accessGroupIntegrationRestClient) {
+        Supplier<List<FunctionsGetResponseBody>> retrieveFunctions =
+            () -> Collections.unmodifiableList(accessGroupIntegrationRestClient.retrieveFunctions());
+        long ttlSeconds = GlobalProperties.getInstance().getLong(PROPERTY_FUNCTION_CATALOG_TTL_SECONDS);
+        this.functions = ttlSeconds > 0
+            ? Suppliers.memoizeWithExpiration(retrieveFunctions, ttlSeconds, TimeUnit.SECONDS)
+            : Suppliers.memoize(retrieveFunctions);
+    }
+
+    public List<FunctionsGetResponseBody> getFunctions() {
+        return functions.get();
+    }
+
+    public List<FunctionsGetResponseBody> getFunctions(List<String> functionNames) {
+        return getFunctions().stream()
+            .filter(function -> functionNames.contains(function.getName()))
+            .collect(toList());
+    }
+}
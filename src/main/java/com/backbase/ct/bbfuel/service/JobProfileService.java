@@ -5,10 +5,11 @@ import static java.util.Collections.synchronizedMap;
 import static org.apache.commons.lang.StringUtils.deleteWhitespace;
 
 import com.backbase.ct.bbfuel.dto.entitlement.JobProfile;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,7 +26,7 @@ public class JobProfileService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JobProfileService.class);
 
-    private Map<String, List<JobProfile>> assignedJobProfiles = new HashMap<>();
+    private Map<String, List<JobProfile>> assignedJobProfiles = new ConcurrentHashMap<>();
 
     private Map<String, String> functionGroupCache = synchronizedMap(new HashMap<>());
 
@@ -73,7 +74,7 @@ public class JobProfileService {
     public void saveAssignedProfile(JobProfile jobProfile) {
         this.assignedJobProfiles
             .computeIfAbsent(
-                jobProfile.getExternalServiceAgreementId(), key -> new ArrayList<>())
+                jobProfile.getExternalServiceAgreementId(), key -> new CopyOnWriteArrayList<>())
             .add(jobProfile);
     }
 
@@ -3,6 +3,7 @@ package com.backbase.ct.bbfuel.service;
 import static com.backbase.ct.bbfuel.data.CommonConstants.EXTERNAL_ROOT_LEGAL_ENTITY_ID;
 import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
 import static org.apache.http.HttpStatus.SC_CREATED;
+import static org.apache.http.HttpStatus.SC_OK;
 
 import com.backbase.buildingblocks.presentation.errors.BadRequestException;
 import com.backbase.ct.bbfuel.client.legalentity.LegalEntityIntegrationRestClient;
@@ -10,6 +11,8 @@ import com.backbase.ct.bbfuel.client.legalentity.LegalEntityPresentationRestClie
 import com.backbase.integration.legalentity.rest.spec.v2.legalentities.LegalEntitiesPostRequestBody;
 import com.backbase.presentation.legalentity.rest.spec.v2.legalentities.LegalEntitiesGetResponseBody;
 import io.restassured.response.Response;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +28,13 @@ public class LegalEntityService {
 
     private final LegalEntityIntegrationRestClient legalEntityIntegrationRestClient;
 
+    /**
+     * External ids of the legal entities that exist under the root legal entity, by external id and by name. Only
+     * retrieved when a legal entity cannot be found by its external id, and again when a legal entity is missing from
+     * it, as legal entities are created during the run.
+     */
+    private volatile Map<String, String> existingExternalIds;
+
     public String ingestLegalEntity(LegalEntitiesPostRequestBody legalEntity) {
         Response response = legalEntityIntegrationRestClient.ingestLegalEntity(legalEntity);
 
@@ -44,18 +54,18 @@ public class LegalEntityService {
                 return EXTERNAL_ROOT_LEGAL_ENTITY_ID;
             }
 
-            // Legal entity name is unique in the system
-            LegalEntitiesGetResponseBody existingLegalEntity = legalEntityPresentationRestClient
-                .retrieveLegalEntities()
-                .stream()
-                .filter(legalEntitiesGetResponseBody ->
-                    legalEntity.getExternalId().equals(legalEntitiesGetResponseBody.getExternalId()) ||
-                    legalEntity.getName().equals(legalEntitiesGetResponseBody.getName()))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException(
-                    String.format("No existing legal entity found by name [%s]", legalEntity.getName())));
-
-            return existingLegalEntity.getExternalId();
+            if (legalEntityPresentationRestClient.retrieveLegalEntityByExternalId(legalEntity.getExternalId())
+                .statusCode() == SC_OK) {
+                return legalEntity.getExternalId();
+            }
+
+            String existingExternalId = findExistingExternalId(legalEntity);
+            if (existingExternalId == null) {
+                throw new RuntimeException(
+                    String.format("No existing legal entity found by name [%s]", legalEntity.getName()));
+            }
+
+            return existingExternalId;
         } else {
             response.then()
                 .statusCode(SC_CREATED);
@@ -66,4 +76,36 @@ public class LegalEntityService {
         }
     }
 
+    private String findExistingExternalId(LegalEntitiesPostRequestBody legalEntity) {
+        Map<String, String> index = existingExternalIds;
+        String existingExternalId = index == null ? null : findExistingExternalId(index, legalEntity);
+        if (existingExternalId == null) {
+            existingExternalId = findExistingExternalId(reindexLegalEntities(index), legalEntity);
+        }
+        return existingExternalId;
+    }
+
+    private static String findExistingExternalId(Map<String, String> index, LegalEntitiesPostRequestBody legalEntity) {
+        // Legal entity name is unique in the system
+        return index.getOrDefault(legalEntity.getExternalId(), index.get(legalEntity.getName()));
+    }
+
+    /**
+     * Index the legal entities again, unless another lookup did since the given index was read.
+     */
+    private synchronized Map<String, String> reindexLegalEntities(Map<String, String> staleIndex) {
+        if (existingExternalIds == staleIndex) {
+            existingExternalIds = indexLegalEntities();
+        }
+        return existingExternalIds;
+    }
+
+    private Map<String, String> indexLegalEntities() {
+        Map<String, String> externalIds = new HashMap<>();
+        for (LegalEntitiesGetResponseBody legalEntity : legalEntityPresentationRestClient.retrieveLegalEntities()) {
+            externalIds.put(legalEntity.getName(), legalEntity.getExternalId());
+            externalIds.put(legalEntity.getExternalId(), legalEntity.getExternalId());
+        }
+        return externalIds;
+    }
 }
@@ -13,6 +13,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang.StringUtils;
 import org.springframework.stereotype.Service;
@@ -27,7 +29,7 @@ public class ProductGroupService {
 
     private Map<String, String> productGroupCache = synchronizedMap(new HashMap<>());
 
-    private Map<String, List<ProductGroupSeed>> assignedProductGroups = new HashMap<>();
+    private Map<String, List<ProductGroupSeed>> assignedProductGroups = new ConcurrentHashMap<>();
 
     private static String createCacheKey(ProductGroupSeed productGroupSeed) {
         return String.format("%s-%s", productGroupSeed.getExternalServiceAgreementId(),
@@ -72,7 +74,7 @@ public class ProductGroupService {
         }
         this.assignedProductGroups
             .computeIfAbsent(
-                productGroupSeed.getExternalServiceAgreementId(), key -> new ArrayList<>())
+                productGroupSeed.getExternalServiceAgreementId(), key -> new CopyOnWriteArrayList<>())
             .add(productGroupSeed);
         storeInCache(productGroupSeed);
     }
@@ -1,26 +1,49 @@
 package com.backbase.ct.bbfuel.service;
 
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_ROOT_ENTITLEMENTS_ADMIN;
+import static com.backbase.ct.bbfuel.util.IngestionJournal.unit;
 
 import com.backbase.ct.bbfuel.client.accessgroup.ServiceAgreementsPresentationRestClient;
 import com.backbase.ct.bbfuel.client.accessgroup.UserContextPresentationRestClient;
 import com.backbase.ct.bbfuel.client.common.LoginRestClient;
+import com.backbase.ct.bbfuel.client.common.SessionContext;
+import com.backbase.ct.bbfuel.client.common.UserSession;
 import com.backbase.ct.bbfuel.client.legalentity.LegalEntityPresentationRestClient;
 import com.backbase.ct.bbfuel.client.user.UserPresentationRestClient;
 import com.backbase.ct.bbfuel.dto.User;
 import com.backbase.ct.bbfuel.dto.UserContext;
 import com.backbase.ct.bbfuel.util.GlobalProperties;
+import com.backbase.ct.bbfuel.util.IngestExecutor;
+import com.backbase.ct.bbfuel.util.IngestionJournal;
 import com.backbase.presentation.user.rest.spec.v2.users.LegalEntityByUserGetResponseBody;
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 /**
- * A simple local service with no integration at all.
+ * Resolves the context of users: their internal id, legal entity and master service agreement. Contexts are resolved
+ * once per run in a session of the root entitlements admin, users of the same legal entity share the lookup of its
+ * master service agreement. The lookup is made outside of the maps of master service agreements, so other legal
+ * entities are not held up by it.
+ * <p>
+ * Resolved contexts are journaled, so a resumed run starts with the contexts resolved by the previous runs.
  */
 @Service
 @RequiredArgsConstructor
 public class UserContextService {
 
+    private static final String JOURNAL_USER_CONTEXT = "user-context";
+    private static final Joiner ID_JOINER = Joiner.on(',');
+    private static final Splitter ID_SPLITTER = Splitter.on(',');
+
     protected GlobalProperties globalProperties = GlobalProperties.getInstance();
 
     private final LoginRestClient loginRestClient;
@@ -33,38 +56,145 @@ public class UserContextService {
 
     private final LegalEntityPresentationRestClient legalEntityPresentationRestClient;
 
+    private final IngestExecutor ingestExecutor;
+
+    private final IngestionJournal journal;
+
     private String rootEntitlementsAdmin = globalProperties.getString(PROPERTY_ROOT_ENTITLEMENTS_ADMIN);
 
+    private final Map<String, UserContext> userContexts = new ConcurrentHashMap<>();
+
+    private final Map<String, Supplier<MasterServiceAgreement>> masterServiceAgreements = new ConcurrentHashMap<>();
+
+    private UserSession adminSession;
+
+    /**
+     * @return the context of the user, resolved when it is first asked for.
+     */
     public UserContext getUserContextBasedOnMSAByExternalUserId(User user) {
-        return getUserContextBasedOnMSAByExternalUserId(user, null);
+        UserContext userContext = userContexts.get(user.getExternalId());
+        if (userContext == null) {
+            userContext = readJournaledUserContext(user);
+        }
+        if (userContext == null) {
+            userContext = SessionContext.callInSession(getAdminSession(),
+                () -> resolveUserContext(user, null, masterServiceAgreements));
+        }
+        return userContext;
     }
 
-    public UserContext getUserContextBasedOnMSAByExternalUserId(User user,
-        LegalEntityByUserGetResponseBody legalEntity) {
-        this.loginRestClient.login(rootEntitlementsAdmin, rootEntitlementsAdmin);
-        this.userContextPresentationRestClient.selectContextBasedOnMasterServiceAgreement();
+    /**
+     * Resolve the contexts of the given users concurrently, ignoring contexts resolved before. The master service
+     * agreement of every legal entity is prepared with the given action before it is looked up, once per legal entity
+     * of these users.
+     *
+     * @param users users to resolve the context of
+     * @param prepareLegalEntity action on the external id of the legal entity
+     * @return the contexts of the users, in the order of the users
+     */
+    public List<UserContext> resolveUserContexts(List<User> users, Consumer<String> prepareLegalEntity) {
+        Map<String, Supplier<MasterServiceAgreement>> preparedServiceAgreements = new ConcurrentHashMap<>();
+        UserContext[] resolved = new UserContext[users.size()];
+
+        SessionContext.runInSession(getAdminSession(), () -> ingestExecutor.forEachIndex(users.size(), index -> {
+            User user = users.get(index);
+            LegalEntityByUserGetResponseBody legalEntity = userPresentationRestClient
+                .retrieveLegalEntityByExternalUserId(user.getExternalId());
+            preparedServiceAgreements.computeIfAbsent(legalEntity.getId(), legalEntityId -> Suppliers.memoize(() -> {
+                prepareLegalEntity.accept(legalEntity.getExternalId());
+                MasterServiceAgreement masterServiceAgreement = retrieveMasterServiceAgreement(legalEntityId);
+                masterServiceAgreements.put(legalEntityId, Suppliers.ofInstance(masterServiceAgreement));
+                return masterServiceAgreement;
+            }));
+            resolved[index] = resolveUserContext(user, legalEntity, preparedServiceAgreements);
+        }));
+
+        return Arrays.asList(resolved);
+    }
 
+    private UserContext resolveUserContext(User user, LegalEntityByUserGetResponseBody legalEntity,
+        Map<String, Supplier<MasterServiceAgreement>> serviceAgreementsByLegalEntity) {
         String internalUserId = this.userPresentationRestClient.getUserByExternalId(user.getExternalId()).getId();
 
         if (legalEntity == null) {
             legalEntity = this.userPresentationRestClient.retrieveLegalEntityByExternalUserId(user.getExternalId());
         }
 
+        MasterServiceAgreement masterServiceAgreement = serviceAgreementsByLegalEntity
+            .computeIfAbsent(legalEntity.getId(), legalEntityId -> Suppliers.memoize(
+                () -> retrieveMasterServiceAgreement(legalEntityId)))
+            .get();
+
+        UserContext userContext = new UserContext()
+            .withUser(user)
+            .withInternalUserId(internalUserId)
+            .withExternalUserId(user.getExternalId())
+            .withInternalServiceAgreementId(masterServiceAgreement.internalId)
+            .withExternalServiceAgreementId(masterServiceAgreement.externalId)
+            .withInternalLegalEntityId(legalEntity.getId())
+            .withExternalLegalEntityId(legalEntity.getExternalId());
+
+        userContexts.put(user.getExternalId(), userContext);
+        journal.put(unit(JOURNAL_USER_CONTEXT, user.getExternalId()), ID_JOINER.join(internalUserId,
+            userContext.getInternalLegalEntityId(), userContext.getExternalLegalEntityId(),
+            userContext.getInternalServiceAgreementId(), userContext.getExternalServiceAgreementId()));
+        return userContext;
+    }
+
+    private MasterServiceAgreement retrieveMasterServiceAgreement(String internalLegalEntityId) {
         String internalServiceAgreementId = this.legalEntityPresentationRestClient
-            .getMasterServiceAgreementOfLegalEntity(legalEntity.getId())
+            .getMasterServiceAgreementOfLegalEntity(internalLegalEntityId)
             .getId();
 
         String externalServiceAgreementId = this.serviceAgreementsPresentationRestClient
             .retrieveServiceAgreement(internalServiceAgreementId)
             .getExternalId();
 
-        return new UserContext()
+        return new MasterServiceAgreement(internalServiceAgreementId, externalServiceAgreementId);
+    }
+
+    private UserContext readJournaledUserContext(User user) {
+        String journaledIds = journal.get(unit(JOURNAL_USER_CONTEXT, user.getExternalId()));
+        if (journaledIds == null) {
+            return null;
+        }
+        List<String> ids = ID_SPLITTER.splitToList(journaledIds);
+        UserContext userContext = new UserContext()
             .withUser(user)
-            .withInternalUserId(internalUserId)
+            .withInternalUserId(ids.get(0))
             .withExternalUserId(user.getExternalId())
-            .withInternalServiceAgreementId(internalServiceAgreementId)
-            .withExternalServiceAgreementId(externalServiceAgreementId)
-            .withInternalLegalEntityId(legalEntity.getId())
-            .withExternalLegalEntityId(legalEntity.getExternalId());
+            .withInternalLegalEntityId(ids.get(1))
+            .withExternalLegalEntityId(ids.get(2))
+            .withInternalServiceAgreementId(ids.get(3))
+            .withExternalServiceAgreementId(ids.get(4));
+        userContexts.put(user.getExternalId(), userContext);
+        return userContext;
+    }
+
+    /**
+     * The session of the root entitlements admin is logged in once and shared by all lookups. Its master service
+     * agreement is selected as user context each time it is handed out, which does nothing while it is selected.
+     */
+    private synchronized UserSession getAdminSession() {
+        if (adminSession == null) {
+            UserSession session = SessionContext.newSession();
+            SessionContext.runInSession(session,
+                () -> this.loginRestClient.login(rootEntitlementsAdmin, rootEntitlementsAdmin));
+            adminSession = session;
+        }
+        SessionContext.runInSession(adminSession,
+            this.userContextPresentationRestClient::selectContextBasedOnMasterServiceAgreement);
+        return adminSession;
+    }
+
+    private static final class MasterServiceAgreement {
+
+        private final String internalId;
+        private final String externalId;
+
+        private MasterServiceAgreement(String internalId, String externalId) {
+            this.internalId = internalId;
+            this.externalId = externalId;
+        }
     }
 }
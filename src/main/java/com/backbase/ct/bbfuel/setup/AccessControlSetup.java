@@ -1,18 +1,22 @@
 package com.backbase.ct.bbfuel.setup;
 
+import static com.backbase.ct.bbfuel.data.CommonConstants.EXTERNAL_ROOT_LEGAL_ENTITY_ID;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_ACCESS_CONTROL_PARALLELISM;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_ACCESS_CONTROL;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_APPROVALS_FOR_CONTACTS;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_APPROVALS_FOR_PAYMENTS;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_BALANCE_HISTORY;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_TRANSACTIONS;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_LEGAL_ENTITIES_WITH_USERS_BATCH_SIZE;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_LEGAL_ENTITIES_WITH_USERS_STREAMING;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_ROOT_ENTITLEMENTS_ADMIN;
 import static com.backbase.ct.bbfuel.enrich.LegalEntityWithUsersEnricher.createRootLegalEntityWithAdmin;
+import static com.backbase.ct.bbfuel.util.IngestionJournal.unit;
 import static java.util.Collections.singletonList;
 
-import com.backbase.ct.bbfuel.client.accessgroup.AccessGroupPresentationRestClient;
 import com.backbase.ct.bbfuel.client.accessgroup.UserContextPresentationRestClient;
 import com.backbase.ct.bbfuel.client.common.LoginRestClient;
-import com.backbase.ct.bbfuel.client.user.UserPresentationRestClient;
+import com.backbase.ct.bbfuel.client.common.SessionContext;
 import com.backbase.ct.bbfuel.configurator.AccessGroupsConfigurator;
 import com.backbase.ct.bbfuel.configurator.LegalEntitiesAndUsersConfigurator;
 import com.backbase.ct.bbfuel.configurator.PermissionsConfigurator;
@@ -27,21 +31,32 @@ import com.backbase.ct.bbfuel.dto.entitlement.JobProfile;
 import com.backbase.ct.bbfuel.dto.entitlement.ProductGroupSeed;
 import com.backbase.ct.bbfuel.enrich.ProductGroupSeedEnricher;
 import com.backbase.ct.bbfuel.input.JobProfileReader;
+import com.backbase.ct.bbfuel.input.LegalEntityWithUsersGenerator;
 import com.backbase.ct.bbfuel.input.LegalEntityWithUsersReader;
 import com.backbase.ct.bbfuel.input.ProductGroupSeedReader;
 import com.backbase.ct.bbfuel.input.validation.ProductGroupAssignmentValidator;
+import com.backbase.ct.bbfuel.service.AccessGroupService;
 import com.backbase.ct.bbfuel.service.JobProfileService;
 import com.backbase.ct.bbfuel.service.ProductGroupService;
 import com.backbase.ct.bbfuel.service.UserContextService;
+import com.backbase.ct.bbfuel.util.IngestExecutor;
+import com.backbase.ct.bbfuel.util.IngestionJournal;
+import com.backbase.ct.bbfuel.util.SeededRandom;
 import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.IntegrationIdentifier;
+import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.users.permissions.IntegrationAssignUserPermissions;
 import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.users.permissions.IntegrationFunctionGroupDataGroup;
-import com.backbase.presentation.accessgroup.rest.spec.v2.accessgroups.datagroups.DataGroupsGetResponseBody;
-import com.backbase.presentation.user.rest.spec.v2.users.LegalEntityByUserGetResponseBody;
+import com.google.common.base.Splitter;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -50,22 +65,33 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class AccessControlSetup extends BaseSetup {
 
+    private static final String JOURNAL_LEGAL_ENTITY = "legal-entity";
+    private static final String JOURNAL_PRODUCTS = "products";
+    private static final String JOURNAL_ACCESS_CONTROL = "access-control";
+    private static final String JOURNAL_ARRANGEMENTS = "arrangements";
+    private static final String JOURNAL_PERMISSIONS = "permissions";
+    private static final String JOURNAL_TRANSACTIONS = "transactions";
+    private static final String JOURNAL_BALANCE_HISTORY = "balance-history";
+    private static final Splitter LIST_SPLITTER = Splitter.on(',').omitEmptyStrings();
+
     private final UserContextPresentationRestClient userContextPresentationRestClient;
-    private final AccessGroupPresentationRestClient accessGroupPresentationRestClient;
+    private final AccessGroupService accessGroupService;
     private final LegalEntitiesAndUsersConfigurator legalEntitiesAndUsersConfigurator;
-    private final UserPresentationRestClient userPresentationRestClient;
     private final ProductSummaryConfigurator productSummaryConfigurator;
     private final AccessGroupsConfigurator accessGroupsConfigurator;
     private final ServiceAgreementsConfigurator serviceAgreementsConfigurator;
     private final PermissionsConfigurator permissionsConfigurator;
     private final TransactionsConfigurator transactionsConfigurator;
     private final LegalEntityWithUsersReader legalEntityWithUsersReader;
+    private final LegalEntityWithUsersGenerator legalEntityWithUsersGenerator;
     private final JobProfileService jobProfileService;
     private final ProductGroupService productGroupService;
     private final ProductGroupAssignmentValidator productGroupAssignmentValidator;
     private final ProductGroupSeedEnricher productGroupEnricher;
     private final UserContextService userContextService;
     private final LoginRestClient loginRestClient;
+    private final IngestExecutor ingestExecutor;
+    private final IngestionJournal journal;
 
     private final JobProfileReader jobProfileReader;
     private final ProductGroupSeedReader productGroupSeedReader;
@@ -74,7 +100,17 @@ public class AccessControlSetup extends BaseSetup {
     private List<JobProfile> jobProfileTemplates;
     private List<ProductGroupSeed> productGroupSeedTemplates;
 
-    public List<LegalEntityWithUsers> getLegalEntitiesWithUsers() {
+    /**
+     * When the legal entities are streamed, only their external ids and the external ids and roles of their users are
+     * kept, see {@link #toIndexEntry}. These are collected during access control setup, or streamed here once needed
+     * when access control is not set up.
+     */
+    public synchronized List<LegalEntityWithUsers> getLegalEntitiesWithUsers() {
+        if (this.legalEntitiesWithUsers == null) {
+            List<LegalEntityWithUsers> index = new ArrayList<>();
+            streamLegalEntitiesWithUsers(legalEntity -> index.add(toIndexEntry(legalEntity)));
+            this.legalEntitiesWithUsers = index;
+        }
         return this.legalEntitiesWithUsers;
     }
 
@@ -88,23 +124,32 @@ public class AccessControlSetup extends BaseSetup {
     }
 
     /**
-     * Legal entities, job profiles and product groups are loaded from files.
+     * Legal entities, job profiles and product groups are loaded from files. In streaming mode the legal entities are
+     * set up while the file is read, instead of after loading all of them. A generated population is always streamed.
      */
     public void initiate() {
-        this.legalEntitiesWithUsers = this.legalEntityWithUsersReader.load();
+        boolean streaming = this.globalProperties.getBoolean(PROPERTY_LEGAL_ENTITIES_WITH_USERS_STREAMING)
+            || this.legalEntityWithUsersGenerator.isEnabled();
         this.jobProfileTemplates = this.jobProfileReader.load();
-        loadProductGroups();
+        this.productGroupSeedTemplates = this.productGroupSeedReader.load();
+        if (!streaming) {
+            loadLegalEntitiesWithUsers();
+        }
         if (this.globalProperties.getBoolean(PROPERTY_INGEST_ACCESS_CONTROL)) {
             this.setupBankWithEntitlementsAdminAndProducts();
-            this.setupAccessControlForUsers();
+            if (streaming) {
+                this.streamAccessControlForUsers();
+            } else {
+                this.setupAccessControlForUsers(this.legalEntitiesWithUsers);
+            }
         } else if (this.globalProperties.getBoolean(PROPERTY_INGEST_APPROVALS_FOR_PAYMENTS)
             || this.globalProperties.getBoolean(PROPERTY_INGEST_APPROVALS_FOR_CONTACTS)) {
             this.prepareJobProfiles();
         }
     }
 
-    private void loadProductGroups() {
-        this.productGroupSeedTemplates = this.productGroupSeedReader.load();
+    private void loadLegalEntitiesWithUsers() {
+        this.legalEntitiesWithUsers = this.legalEntityWithUsersReader.load();
         this.productGroupAssignmentValidator.verify(this.legalEntitiesWithUsers, this.productGroupSeedTemplates);
         this.productGroupEnricher.enrichLegalEntitiesWithUsers(
             this.legalEntitiesWithUsers, this.productGroupSeedTemplates);
@@ -115,49 +160,150 @@ public class AccessControlSetup extends BaseSetup {
         this.productGroupEnricher.enrichLegalEntitiesWithUsers(
             singletonList(rootBank), this.productGroupSeedTemplates);
 
-        this.legalEntitiesAndUsersConfigurator.ingestLegalEntityWithUsers(rootBank);
-        this.productSummaryConfigurator.ingestProducts();
+        ingestLegalEntityWithUsers(rootBank);
+        this.journal.runOnce(JOURNAL_PRODUCTS, this.productSummaryConfigurator::ingestProducts);
         assembleFunctionDataGroupsAndPermissions(rootBank);
     }
 
-    private void setupAccessControlForUsers() {
-        this.legalEntitiesWithUsers.forEach(legalEntity -> {
-            this.legalEntitiesAndUsersConfigurator.ingestLegalEntityWithUsers(legalEntity);
-            assembleFunctionDataGroupsAndPermissions(legalEntity);
+    /**
+     * Set up the legal entities in batches while they are read. Each legal entity is validated and enriched on its
+     * own, the batches are set up one after the other. A parent has to come before its children in the file.
+     */
+    private void streamAccessControlForUsers() {
+        int batchSize = this.globalProperties.getInt(PROPERTY_LEGAL_ENTITIES_WITH_USERS_BATCH_SIZE);
+        List<String> productGroupNames = this.productGroupSeedTemplates.stream()
+            .map(ProductGroupSeed::getProductGroupName)
+            .collect(Collectors.toList());
+        List<LegalEntityWithUsers> batch = new ArrayList<>(batchSize);
+        List<LegalEntityWithUsers> index = new ArrayList<>();
+
+        streamLegalEntitiesWithUsers(legalEntity -> {
+            index.add(toIndexEntry(legalEntity));
+            this.productGroupAssignmentValidator.verify(legalEntity, productGroupNames);
+            this.productGroupEnricher.enrichLegalEntitiesWithUsers(
+                singletonList(legalEntity), this.productGroupSeedTemplates);
+            batch.add(legalEntity);
+            if (batch.size() == batchSize) {
+                setupAccessControlForUsers(batch);
+                batch.clear();
+            }
         });
+        setupAccessControlForUsers(batch);
+
+        synchronized (this) {
+            this.legalEntitiesWithUsers = index;
+        }
     }
 
-    private Multimap<String, UserContext> createLegalEntitiesUserContextMap(
-        LegalEntityWithUsers legalEntityWithUsers) {
+    private void streamLegalEntitiesWithUsers(Consumer<LegalEntityWithUsers> consumer) {
+        if (this.legalEntityWithUsersGenerator.isEnabled()) {
+            this.legalEntityWithUsersGenerator.stream(this.productGroupSeedTemplates, consumer);
+        } else {
+            this.legalEntityWithUsersReader.stream(consumer);
+        }
+    }
 
-        Multimap<String, UserContext> legalEntitiesUserContextMap = ArrayListMultimap.create();
-        this.loginRestClient.login(rootEntitlementsAdmin, rootEntitlementsAdmin);
-        this.userContextPresentationRestClient.selectContextBasedOnMasterServiceAgreement();
+    /**
+     * @return a copy of the legal entity with what the capabilities need: its external id and category, and the
+     * external ids and roles of its users
+     */
+    private static LegalEntityWithUsers toIndexEntry(LegalEntityWithUsers legalEntityWithUsers) {
+        return LegalEntityWithUsers.builder()
+            .legalEntityExternalId(legalEntityWithUsers.getLegalEntityExternalId())
+            .category(legalEntityWithUsers.getCategory())
+            .users(legalEntityWithUsers.getUsers().stream()
+                .map(user -> User.builder()
+                    .externalId(user.getExternalId())
+                    .role(user.getRole())
+                    .build())
+                .collect(Collectors.toList()))
+            .build();
+    }
+
+    /**
+     * Legal entities are set up concurrently, each in a session of its own and with a random seeded by its external
+     * id. A legal entity is set up after its parent, so they are processed level by level of the legal entity
+     * hierarchy.
+     */
+    private void setupAccessControlForUsers(List<LegalEntityWithUsers> legalEntitiesWithUsers) {
+        int parallelism = this.globalProperties.getInt(PROPERTY_ACCESS_CONTROL_PARALLELISM);
+        groupByHierarchyLevel(legalEntitiesWithUsers).forEach(legalEntities -> this.ingestExecutor
+            .forEach(legalEntities, parallelism, legalEntity -> SessionContext.runInNewSession(
+                () -> SeededRandom.runSeeded(unit(JOURNAL_LEGAL_ENTITY, getJournalId(legalEntity)), () -> {
+                    ingestLegalEntityWithUsers(legalEntity);
+                    assembleFunctionDataGroupsAndPermissions(legalEntity);
+                }))));
+    }
+
+    private void ingestLegalEntityWithUsers(LegalEntityWithUsers legalEntityWithUsers) {
+        this.journal.runOnce(unit(JOURNAL_LEGAL_ENTITY, getJournalId(legalEntityWithUsers)),
+            () -> this.legalEntitiesAndUsersConfigurator.ingestLegalEntityWithUsers(legalEntityWithUsers));
+    }
 
-        legalEntityWithUsers.getUsers().forEach(user -> {
-            LegalEntityByUserGetResponseBody legalEntity = this.userPresentationRestClient
-                .retrieveLegalEntityByExternalUserId(user.getExternalId());
-            final String legalEntityExternalId = legalEntity.getExternalId();
+    private static String getJournalId(LegalEntityWithUsers legalEntityWithUsers) {
+        return legalEntityWithUsers.getCategory().isRoot()
+            ? EXTERNAL_ROOT_LEGAL_ENTITY_ID
+            : legalEntityWithUsers.getLegalEntityExternalId();
+    }
 
-            if (!legalEntitiesUserContextMap.containsKey(legalEntityExternalId)) {
-                this.serviceAgreementsConfigurator
-                    .updateMasterServiceAgreementWithExternalIdByLegalEntity(legalEntityExternalId);
+    private static List<List<LegalEntityWithUsers>> groupByHierarchyLevel(
+        List<LegalEntityWithUsers> legalEntitiesWithUsers) {
+        Map<String, LegalEntityWithUsers> legalEntitiesByExternalId = new HashMap<>();
+        legalEntitiesWithUsers.forEach(legalEntity -> legalEntitiesByExternalId
+            .putIfAbsent(legalEntity.getLegalEntityExternalId(), legalEntity));
+
+        Map<Integer, List<LegalEntityWithUsers>> levels = new TreeMap<>();
+        legalEntitiesWithUsers.forEach(legalEntity -> {
+            int level = 0;
+            LegalEntityWithUsers parent = legalEntitiesByExternalId.get(legalEntity.getParentLegalEntityExternalId());
+            while (parent != null && level < legalEntitiesWithUsers.size()) {
+                level++;
+                parent = legalEntitiesByExternalId.get(parent.getParentLegalEntityExternalId());
             }
-
-            UserContext userContext = userContextService.getUserContextBasedOnMSAByExternalUserId(user, legalEntity);
-            legalEntitiesUserContextMap.put(userContext.getExternalLegalEntityId(), userContext);
+            levels.computeIfAbsent(level, key -> new ArrayList<>()).add(legalEntity);
         });
+        return new ArrayList<>(levels.values());
+    }
+
+    private Multimap<String, UserContext> createLegalEntitiesUserContextMap(
+        LegalEntityWithUsers legalEntityWithUsers) {
+
+        Multimap<String, UserContext> legalEntitiesUserContextMap = ArrayListMultimap.create();
+
+        userContextService.resolveUserContexts(legalEntityWithUsers.getUsers(),
+            this.serviceAgreementsConfigurator::updateMasterServiceAgreementWithExternalIdByLegalEntity)
+            .forEach(userContext -> legalEntitiesUserContextMap.put(userContext.getExternalLegalEntityId(),
+                userContext));
 
         return legalEntitiesUserContextMap;
     }
 
+    /**
+     * The external ids of the service agreements are journaled once done. When resuming, only the job profiles and
+     * product groups of these service agreements are restored, the approvals and service agreements need them.
+     * Permissions that failed to be assigned are not journaled, nor is the legal entity then, so a resumed run assigns
+     * them again.
+     */
     private void assembleFunctionDataGroupsAndPermissions(LegalEntityWithUsers legalEntityWithUsers) {
+        String accessControlUnit = unit(JOURNAL_ACCESS_CONTROL, getJournalId(legalEntityWithUsers));
+        String externalServiceAgreementIds = this.journal.get(accessControlUnit);
+        if (externalServiceAgreementIds != null) {
+            boolean isRetail = legalEntityWithUsers.getCategory().isRetail();
+            LIST_SPLITTER.split(externalServiceAgreementIds).forEach(externalServiceAgreementId -> {
+                ingestFunctionGroups(externalServiceAgreementId, isRetail);
+                restoreProductGroups(externalServiceAgreementId, isRetail);
+            });
+            return;
+        }
+
         Multimap<String, UserContext> legalEntitiesUserContextMap =
             createLegalEntitiesUserContextMap(legalEntityWithUsers);
         this.loginRestClient.login(rootEntitlementsAdmin, rootEntitlementsAdmin);
         this.userContextPresentationRestClient.selectContextBasedOnMasterServiceAgreement();
 
         AtomicBoolean isOnce = new AtomicBoolean(true);
+        List<String> permissionsUnits = new ArrayList<>();
+        List<IntegrationAssignUserPermissions> userPermissions = new ArrayList<>();
 
         legalEntitiesUserContextMap.values()
             .forEach(userContext -> {
@@ -171,10 +317,32 @@ public class AccessControlSetup extends BaseSetup {
                     isOnce.getAndSet(false);
                 }
 
-                assignPermissions(userContext.getUser(),
-                    userContext.getExternalServiceAgreementId(),
-                    isRetail);
+                String permissionsUnit = unit(JOURNAL_PERMISSIONS, userContext.getExternalServiceAgreementId(),
+                    userContext.getExternalUserId());
+                if (!this.journal.isDone(permissionsUnit)) {
+                    permissionsUnits.add(permissionsUnit);
+                    userPermissions.add(createUserPermissions(userContext.getUser(),
+                        userContext.getExternalServiceAgreementId(), isRetail));
+                }
             });
+
+        // The permissions of the users are assigned in batches
+        Set<String> failedUserIds = this.permissionsConfigurator.assignPermissions(userPermissions).stream()
+            .map(IntegrationAssignUserPermissions::getExternalUserId)
+            .collect(Collectors.toSet());
+        for (int i = 0; i < userPermissions.size(); i++) {
+            if (!failedUserIds.contains(userPermissions.get(i).getExternalUserId())) {
+                this.journal.markDone(permissionsUnits.get(i));
+            }
+        }
+        if (!failedUserIds.isEmpty()) {
+            return;
+        }
+
+        this.journal.put(accessControlUnit, legalEntitiesUserContextMap.values().stream()
+            .map(UserContext::getExternalServiceAgreementId)
+            .distinct()
+            .collect(Collectors.joining(",")));
     }
 
     protected void ingestDataGroupArrangementsForServiceAgreement(String internalServiceAgreementId,
@@ -184,64 +352,137 @@ public class AccessControlSetup extends BaseSetup {
         productGroupSeedTemplates.forEach(productGroupTemplate -> {
             ProductGroupSeed productGroupSeed = new ProductGroupSeed(productGroupTemplate);
 
-            if ((isRetail && !productGroupSeed.getIsRetail()) || (!isRetail && productGroupSeed.getIsRetail())) {
+            if (!isForBranch(productGroupSeed, isRetail)) {
                 return;
             }
 
-            // Combination of data group name and service agreement is unique in the system
-            DataGroupsGetResponseBody existingDataGroup = accessGroupPresentationRestClient
-                .retrieveDataGroupsByServiceAgreement(internalServiceAgreementId)
-                .stream()
-                .filter(dataGroupsGetResponseBody -> productGroupSeed.getProductGroupName()
-                    .equals(dataGroupsGetResponseBody.getName()))
-                .findFirst()
-                .orElse(null);
+            // Arrangements of a data group that was not completed in a previous run are journaled
+            String arrangementsUnit = unit(JOURNAL_ARRANGEMENTS, externalServiceAgreementId,
+                productGroupSeed.getProductGroupName());
+            List<ArrangementId> arrangementIds = readArrangementIds(this.journal.get(arrangementsUnit));
 
-            if (existingDataGroup == null) {
-                List<ArrangementId> arrangementIds = this.productSummaryConfigurator.ingestArrangements(
-                    externalLegalEntityId, productGroupSeed);
+            if (arrangementIds == null) {
+                // Combination of data group name and service agreement is unique in the system
+                String existingDataGroupId = accessGroupService.retrieveDataGroupId(internalServiceAgreementId,
+                    externalServiceAgreementId, productGroupSeed.getProductGroupName());
 
-                productGroupSeed.setExternalServiceAgreementId(externalServiceAgreementId);
-                this.accessGroupsConfigurator.ingestDataGroupForArrangements(productGroupSeed, arrangementIds);
+                if (existingDataGroupId != null) {
+                    productGroupSeed.setId(existingDataGroupId);
+                    productGroupSeed.setExternalServiceAgreementId(externalServiceAgreementId);
+                    productGroupService.saveAssignedProductGroup(productGroupSeed);
+                    return;
+                }
 
-                ingestTransactions(arrangementIds, isRetail);
-                ingestBalanceHistory(arrangementIds);
-            } else {
-                productGroupSeed.setId(existingDataGroup.getId());
-                productGroupSeed.setExternalServiceAgreementId(externalServiceAgreementId);
+                arrangementIds = SeededRandom.callSeeded(arrangementsUnit, () -> this.productSummaryConfigurator
+                    .ingestArrangements(externalLegalEntityId, productGroupSeed));
+                this.journal.put(arrangementsUnit, writeArrangementIds(arrangementIds));
+            }
+
+            productGroupSeed.setExternalServiceAgreementId(externalServiceAgreementId);
+            this.accessGroupsConfigurator.ingestDataGroupForArrangements(productGroupSeed, arrangementIds);
+
+            ingestTransactions(arrangementIds, isRetail);
+            ingestBalanceHistory(arrangementIds);
+        });
+    }
+
+    /**
+     * Assign the data groups of the service agreement to its product groups again. Data groups that existed before
+     * they were ingested are not journaled, these are looked up.
+     */
+    private void restoreProductGroups(String externalServiceAgreementId, boolean isRetail) {
+        productGroupSeedTemplates.forEach(productGroupTemplate -> {
+            ProductGroupSeed productGroupSeed = new ProductGroupSeed(productGroupTemplate);
+            if (!isForBranch(productGroupSeed, isRetail)) {
+                return;
+            }
+            productGroupSeed.setExternalServiceAgreementId(externalServiceAgreementId);
+            if (this.accessGroupsConfigurator.restoreDataGroup(productGroupSeed)) {
+                return;
+            }
+            String existingDataGroupId = accessGroupService.retrieveDataGroupId(null,
+                externalServiceAgreementId, productGroupSeed.getProductGroupName());
+            if (existingDataGroupId != null) {
+                productGroupSeed.setId(existingDataGroupId);
                 productGroupService.saveAssignedProductGroup(productGroupSeed);
             }
         });
     }
 
+    private static boolean isForBranch(ProductGroupSeed productGroupSeed, boolean isRetail) {
+        return isRetail == productGroupSeed.getIsRetail();
+    }
+
+    private static List<ArrangementId> readArrangementIds(String journaledArrangementIds) {
+        if (journaledArrangementIds == null) {
+            return null;
+        }
+        List<ArrangementId> arrangementIds = new ArrayList<>();
+        LIST_SPLITTER.split(journaledArrangementIds).forEach(arrangementId -> {
+            int separator = arrangementId.indexOf('/');
+            arrangementIds.add(new ArrangementId(arrangementId.substring(0, separator),
+                arrangementId.substring(separator + 1)));
+        });
+        return arrangementIds;
+    }
+
+    private static String writeArrangementIds(List<ArrangementId> arrangementIds) {
+        return arrangementIds.stream()
+            .map(arrangementId -> arrangementId.getInternalArrangementId() + "/"
+                + arrangementId.getExternalArrangementId())
+            .collect(Collectors.joining(","));
+    }
+
     private void ingestTransactions(List<ArrangementId> arrangementIds, boolean isRetail) {
         if (this.globalProperties.getBoolean(PROPERTY_INGEST_TRANSACTIONS)) {
-            arrangementIds.parallelStream()
-                .forEach(arrangementId -> this.transactionsConfigurator
-                    .ingestTransactionsByArrangement(arrangementId.getExternalArrangementId(), isRetail));
+            this.ingestExecutor.forEach(arrangementIds,
+                arrangementId -> runOnceSeeded(unit(JOURNAL_TRANSACTIONS, arrangementId.getExternalArrangementId()),
+                    () -> this.transactionsConfigurator
+                        .ingestTransactionsByArrangement(arrangementId.getExternalArrangementId(), isRetail)));
         }
     }
 
+    /**
+     * The balance history of all arrangements is submitted at once, so their requests are pipelined.
+     */
     private void ingestBalanceHistory(List<ArrangementId> arrangementIds) {
         if (this.globalProperties.getBoolean(PROPERTY_INGEST_BALANCE_HISTORY)) {
-            arrangementIds.parallelStream()
-                .forEach(arrangementId -> this.productSummaryConfigurator
-                    .ingestBalanceHistory(arrangementId.getExternalArrangementId()));
+            CompletableFuture.allOf(arrangementIds.stream()
+                .map(ArrangementId::getExternalArrangementId)
+                .filter(externalArrangementId -> !this.journal
+                    .isDone(unit(JOURNAL_BALANCE_HISTORY, externalArrangementId)))
+                .map(externalArrangementId -> {
+                    String balanceHistoryUnit = unit(JOURNAL_BALANCE_HISTORY, externalArrangementId);
+                    return SeededRandom.callSeeded(balanceHistoryUnit,
+                        () -> this.productSummaryConfigurator.ingestBalanceHistoryAsync(externalArrangementId))
+                        .thenRun(() -> this.journal.markDone(balanceHistoryUnit));
+                })
+                .toArray(CompletableFuture[]::new))
+                .join();
         }
     }
 
+    /**
+     * Run the action unless the unit is done, generating its data with a random seeded by the unit.
+     */
+    private void runOnceSeeded(String unit, Runnable action) {
+        this.journal.runOnce(unit, () -> SeededRandom.runSeeded(unit, action));
+    }
+
     /**
      * This will populate the jobProfiles in the local JobProfileService even if ingested already.
      */
     private void prepareJobProfiles() {
-        this.legalEntitiesWithUsers.forEach(legalEntityWithUsers -> {
-            boolean isRetail = legalEntityWithUsers.getCategory().isRetail();
-            createLegalEntitiesUserContextMap(legalEntityWithUsers)
-                .values()
-                .forEach(userContext -> ingestFunctionGroups(
-                    userContext.getExternalServiceAgreementId(), isRetail)
-                );
-        });
+        int parallelism = this.globalProperties.getInt(PROPERTY_ACCESS_CONTROL_PARALLELISM);
+        this.ingestExecutor.forEach(getLegalEntitiesWithUsers(), parallelism,
+            legalEntityWithUsers -> SessionContext.runInNewSession(() -> {
+                boolean isRetail = legalEntityWithUsers.getCategory().isRetail();
+                createLegalEntitiesUserContextMap(legalEntityWithUsers)
+                    .values()
+                    .forEach(userContext -> ingestFunctionGroups(
+                        userContext.getExternalServiceAgreementId(), isRetail)
+                    );
+            }));
     }
 
     /**
@@ -263,7 +504,7 @@ public class AccessControlSetup extends BaseSetup {
         }
     }
 
-    private void assignPermissions(User user,
+    private IntegrationAssignUserPermissions createUserPermissions(User user,
         String externalServiceAgreementId, boolean isRetail) {
         List<IntegrationFunctionGroupDataGroup> functionGroupDataGroups = new ArrayList<>();
 
@@ -282,9 +523,9 @@ public class AccessControlSetup extends BaseSetup {
                     .withDataGroupIdentifiers(dataGroupIdentifiers));
             }
         });
-        this.permissionsConfigurator.assignPermissions(
-            user.getExternalId(), externalServiceAgreementId, functionGroupDataGroups);
-
-
+        return new IntegrationAssignUserPermissions()
+            .withExternalUserId(user.getExternalId())
+            .withExternalServiceAgreementId(externalServiceAgreementId)
+            .withFunctionGroupDataGroups(functionGroupDataGroups);
     }
 }
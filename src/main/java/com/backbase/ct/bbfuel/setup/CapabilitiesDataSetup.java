@@ -1,21 +1,31 @@
 package com.backbase.ct.bbfuel.setup;
 
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_ACTIONS_PARALLELISM;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_APPROVALS_PARALLELISM;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_BILLPAY_PARALLELISM;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_CONTACTS_PARALLELISM;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_ACTIONS;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_APPROVALS_FOR_CONTACTS;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_APPROVALS_FOR_NOTIFICATIONS;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_APPROVALS_FOR_PAYMENTS;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_BILLPAY;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_CAPABILITIES_CONCURRENTLY;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_CONTACTS;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_LIMITS;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_MESSAGES;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_NOTIFICATIONS;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_PAYMENTS;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_LIMITS_PARALLELISM;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_MESSAGES_PARALLELISM;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_PAYMENTS_PARALLELISM;
 import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_ROOT_ENTITLEMENTS_ADMIN;
 import static com.backbase.ct.bbfuel.util.CommonHelpers.getRandomFromList;
+import static com.backbase.ct.bbfuel.util.IngestionJournal.unit;
 import static java.util.Collections.singletonList;
 
 import com.backbase.ct.bbfuel.client.accessgroup.UserContextPresentationRestClient;
 import com.backbase.ct.bbfuel.client.common.LoginRestClient;
+import com.backbase.ct.bbfuel.client.common.SessionContext;
 import com.backbase.ct.bbfuel.configurator.ActionsConfigurator;
 import com.backbase.ct.bbfuel.configurator.ApprovalsConfigurator;
 import com.backbase.ct.bbfuel.configurator.BillPayConfigurator;
@@ -28,7 +38,12 @@ import com.backbase.ct.bbfuel.dto.LegalEntityWithUsers;
 import com.backbase.ct.bbfuel.dto.User;
 import com.backbase.ct.bbfuel.dto.UserContext;
 import com.backbase.ct.bbfuel.service.UserContextService;
+import com.backbase.ct.bbfuel.util.IngestExecutor;
+import com.backbase.ct.bbfuel.util.IngestionJournal;
+import com.backbase.ct.bbfuel.util.SeededRandom;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -37,6 +52,15 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CapabilitiesDataSetup extends BaseSetup {
 
+    private static final String STEP_APPROVALS = "approvals";
+    private static final String STEP_PAYMENTS = "payments";
+    private static final String STEP_LIMITS = "limits";
+    private static final String STEP_NOTIFICATIONS = "notifications";
+    private static final String STEP_CONTACTS = "contacts";
+    private static final String STEP_MESSAGES = "messages";
+    private static final String STEP_ACTIONS = "actions";
+    private static final String STEP_BILL_PAY = "bill pay";
+
     private final UserContextService userContextService;
     private final UserContextPresentationRestClient userContextPresentationRestClient;
     private final LoginRestClient loginRestClient;
@@ -49,6 +73,8 @@ public class CapabilitiesDataSetup extends BaseSetup {
     private final MessagesConfigurator messagesConfigurator;
     private final ActionsConfigurator actionsConfigurator;
     private final BillPayConfigurator billpayConfigurator;
+    private final IngestExecutor ingestExecutor;
+    private final IngestionJournal journal;
     private String rootEntitlementsAdmin = globalProperties.getString(PROPERTY_ROOT_ENTITLEMENTS_ADMIN);
 
     /**
@@ -66,16 +92,53 @@ public class CapabilitiesDataSetup extends BaseSetup {
         this.ingestBillPayUsers();
     }
 
+    /**
+     * Add the capabilities to the plan, depending on the given steps. Approval policies apply to payments, contacts
+     * and notifications. Limits are set after the payments are generated, as in {@link #initiate()}, so they do not
+     * reject them. The other capabilities only need access control.
+     * <p>
+     * Unless the capabilities are ingested concurrently, each capability waits for the one added before it.
+     */
+    public void addSteps(IngestionPlan plan, String... dependencies) {
+        if (!this.globalProperties.getBoolean(PROPERTY_INGEST_CAPABILITIES_CONCURRENTLY)) {
+            plan.add(STEP_APPROVALS, this::ingestApprovals, dependencies)
+                .add(STEP_PAYMENTS, this::ingestPaymentsPerUser, STEP_APPROVALS)
+                .add(STEP_LIMITS, this::ingestLimits, STEP_PAYMENTS)
+                .add(STEP_NOTIFICATIONS, this::ingestBankNotifications, STEP_LIMITS)
+                .add(STEP_CONTACTS, this::ingestContactsPerUser, STEP_NOTIFICATIONS)
+                .add(STEP_MESSAGES, this::ingestConversationsPerUser, STEP_CONTACTS)
+                .add(STEP_ACTIONS, this::ingestActionsPerUser, STEP_MESSAGES)
+                .add(STEP_BILL_PAY, this::ingestBillPayUsers, STEP_ACTIONS);
+            return;
+        }
+        plan.add(STEP_APPROVALS, this::ingestApprovals, dependencies)
+            .add(STEP_PAYMENTS, this::ingestPaymentsPerUser, STEP_APPROVALS)
+            .add(STEP_LIMITS, this::ingestLimits, STEP_PAYMENTS)
+            .add(STEP_NOTIFICATIONS, this::ingestBankNotifications, STEP_APPROVALS)
+            .add(STEP_CONTACTS, this::ingestContactsPerUser, STEP_APPROVALS)
+            .add(STEP_MESSAGES, this::ingestConversationsPerUser, dependencies)
+            .add(STEP_ACTIONS, this::ingestActionsPerUser, dependencies)
+            .add(STEP_BILL_PAY, this::ingestBillPayUsers, dependencies);
+    }
+
     private void ingestApprovals() {
         if (this.globalProperties.getBoolean(PROPERTY_INGEST_APPROVALS_FOR_PAYMENTS)
             || this.globalProperties.getBoolean(PROPERTY_INGEST_APPROVALS_FOR_CONTACTS)
             || this.globalProperties.getBoolean(PROPERTY_INGEST_APPROVALS_FOR_NOTIFICATIONS)) {
+            List<LegalEntityWithUsers> legalEntitiesWithUsers = this.accessControlSetup
+                .getLegalEntitiesWithUsersExcludingSupport();
+            // The approval types and policies are only known in the run that created them
+            if (legalEntitiesWithUsers.stream().allMatch(legalEntityWithUsers -> this.journal
+                .isDone(unit(STEP_APPROVALS, legalEntityWithUsers.getLegalEntityExternalId())))) {
+                return;
+            }
             this.loginRestClient.login(rootEntitlementsAdmin, rootEntitlementsAdmin);
             this.userContextPresentationRestClient.selectContextBasedOnMasterServiceAgreement();
 
             this.approvalsConfigurator.setupApprovalTypesAndPolicies();
 
-            this.accessControlSetup.getLegalEntitiesWithUsersExcludingSupport().forEach(legalEntityWithUsers -> {
+            forEachInNewSession(STEP_APPROVALS, legalEntitiesWithUsers, LegalEntityWithUsers::getLegalEntityExternalId,
+                PROPERTY_APPROVALS_PARALLELISM, legalEntityWithUsers -> {
                 List<User> users = legalEntityWithUsers.getUsers();
                 UserContext userContext = getRandomUserContextBasedOnMsaByExternalUserId(users);
 
@@ -95,7 +158,8 @@ public class CapabilitiesDataSetup extends BaseSetup {
 
     private void ingestLimits() {
         if (this.globalProperties.getBoolean(PROPERTY_INGEST_LIMITS)) {
-            this.accessControlSetup.getLegalEntitiesWithUsersExcludingSupport().forEach(legalEntityWithUsers -> {
+            forEachInNewSession(STEP_LIMITS, this.accessControlSetup.getLegalEntitiesWithUsersExcludingSupport(),
+                LegalEntityWithUsers::getLegalEntityExternalId, PROPERTY_LIMITS_PARALLELISM, legalEntityWithUsers -> {
                 List<User> users = legalEntityWithUsers.getUsers();
                 UserContext userContext = getRandomUserContextBasedOnMsaByExternalUserId(users);
 
@@ -108,21 +172,26 @@ public class CapabilitiesDataSetup extends BaseSetup {
         LegalEntityWithUsers fallbackLegalEntityWithAdminUser = new LegalEntityWithUsers();
         fallbackLegalEntityWithAdminUser
             .setUsers(singletonList(User.builder().externalId(rootEntitlementsAdmin).build()));
-        if (this.globalProperties.getBoolean(PROPERTY_INGEST_NOTIFICATIONS)) {
+        if (this.globalProperties.getBoolean(PROPERTY_INGEST_NOTIFICATIONS)
+            && !this.journal.isDone(STEP_NOTIFICATIONS)) {
             List<User> users = this.accessControlSetup.getLegalEntitiesWithUsersExcludingSupport()
                 .stream()
                 .findFirst()
                 .orElse(fallbackLegalEntityWithAdminUser).getUsers();
-            UserContext userContext = getRandomUserContextBasedOnMsaByExternalUserId(users);
-            this.notificationsConfigurator.ingestNotifications(
-                userContext.getExternalUserId()
-            );
+            SeededRandom.runSeeded(STEP_NOTIFICATIONS, () -> {
+                UserContext userContext = getRandomUserContextBasedOnMsaByExternalUserId(users);
+                this.notificationsConfigurator.ingestNotifications(
+                    userContext.getExternalUserId()
+                );
+            });
+            this.journal.markDone(STEP_NOTIFICATIONS);
         }
     }
 
     private void ingestContactsPerUser() {
         if (this.globalProperties.getBoolean(PROPERTY_INGEST_CONTACTS)) {
-            this.accessControlSetup.getLegalEntitiesWithUsersExcludingSupport().forEach(legalEntityWithUsers -> {
+            forEachInNewSession(STEP_CONTACTS, this.accessControlSetup.getLegalEntitiesWithUsersExcludingSupport(),
+                LegalEntityWithUsers::getLegalEntityExternalId, PROPERTY_CONTACTS_PARALLELISM, legalEntityWithUsers -> {
                 List<User> users = legalEntityWithUsers.getUsers();
                 UserContext userContext = getRandomUserContextBasedOnMsaByExternalUserId(users);
 
@@ -135,23 +204,15 @@ public class CapabilitiesDataSetup extends BaseSetup {
 
     private void ingestPaymentsPerUser() {
         if (this.globalProperties.getBoolean(PROPERTY_INGEST_PAYMENTS)) {
-            this.accessControlSetup.getLegalEntitiesWithUsersExcludingSupport().stream()
-                .map(LegalEntityWithUsers::getUserExternalIds)
-                .flatMap(List::stream)
-                .collect(Collectors.toList())
-                .forEach(this.paymentsConfigurator::ingestPaymentOrders);
+            forEachUserInNewSession(STEP_PAYMENTS, getExternalUserIdsExcludingSupport(),
+                PROPERTY_PAYMENTS_PARALLELISM, this.paymentsConfigurator::ingestPaymentOrders);
         }
     }
 
     private void ingestConversationsPerUser() {
         if (this.globalProperties.getBoolean(PROPERTY_INGEST_MESSAGES)) {
-            this.loginRestClient.login(rootEntitlementsAdmin, rootEntitlementsAdmin);
-            this.userContextPresentationRestClient.selectContextBasedOnMasterServiceAgreement();
-            this.accessControlSetup.getLegalEntitiesWithUsersExcludingSupport().stream()
-                .map(LegalEntityWithUsers::getUserExternalIds)
-                .flatMap(List::stream)
-                .collect(Collectors.toList())
-                .forEach(this.messagesConfigurator::ingestConversations);
+            forEachUserInNewSession(STEP_MESSAGES, getExternalUserIdsExcludingSupport(),
+                PROPERTY_MESSAGES_PARALLELISM, this.messagesConfigurator::ingestConversations);
         }
     }
 
@@ -170,18 +231,47 @@ public class CapabilitiesDataSetup extends BaseSetup {
                 .map(User::getExternalId)
                 .collect(Collectors.toList());
 
-            externalUserIds.forEach(this.actionsConfigurator::ingestActions);
+            forEachUserInNewSession(STEP_ACTIONS, externalUserIds, PROPERTY_ACTIONS_PARALLELISM,
+                this.actionsConfigurator::ingestActions);
         }
     }
 
     private void ingestBillPayUsers() {
         if (this.globalProperties.getBoolean(PROPERTY_INGEST_BILLPAY)) {
-            this.accessControlSetup.getLegalEntitiesWithUsersExcludingSupport()
-                .stream()
-                .map(LegalEntityWithUsers::getUserExternalIds)
-                .flatMap(List::stream)
-                .collect(Collectors.toList())
-                .forEach(this.billpayConfigurator::ingestBillPayUser);
+            forEachUserInNewSession(STEP_BILL_PAY, getExternalUserIdsExcludingSupport(),
+                PROPERTY_BILLPAY_PARALLELISM, this.billpayConfigurator::ingestBillPayUser);
         }
     }
+
+    private List<String> getExternalUserIdsExcludingSupport() {
+        return this.accessControlSetup.getLegalEntitiesWithUsersExcludingSupport().stream()
+            .map(LegalEntityWithUsers::getUserExternalIds)
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Ingest per user, logging the users that are not done yet in ahead, see {@link LoginRestClient#prewarm}.
+     */
+    private void forEachUserInNewSession(String step, List<String> externalUserIds, String parallelismProperty,
+        Consumer<String> action) {
+        this.loginRestClient.prewarm(externalUserIds.stream()
+            .filter(externalUserId -> !this.journal.isDone(unit(step, externalUserId)))
+            .collect(Collectors.toList()));
+        forEachInNewSession(step, externalUserIds, Function.identity(), parallelismProperty, action);
+    }
+
+    /**
+     * Each item is ingested in a session of its own, as many at a time as the given parallelism property allows. Items
+     * are journaled by step and journal id, and skipped when done already. The data of an item is generated with a
+     * random seeded by its unit.
+     */
+    private <T> void forEachInNewSession(String step, List<T> items, Function<? super T, String> journalId,
+        String parallelismProperty, Consumer<T> action) {
+        this.ingestExecutor.forEach(items, this.globalProperties.getInt(parallelismProperty), item -> {
+            String itemUnit = unit(step, journalId.apply(item));
+            this.journal.runOnce(itemUnit, () -> SeededRandom.runSeeded(itemUnit,
+                () -> SessionContext.runInNewSession(() -> action.accept(item))));
+        });
+    }
 }
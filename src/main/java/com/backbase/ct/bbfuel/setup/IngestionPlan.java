@@ -0,0 +1,152 @@
+package com.backbase.ct.bbfuel.setup;
+
+import static java.util.Arrays.asList;
+
+import com.backbase.ct.bbfuel.client.common.CircuitBreaker;
+import com.backbase.ct.bbfuel.client.common.CircuitOpenException;
+import com.backbase.ct.bbfuel.client.common.SessionContext;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Ingestion steps and the steps they depend on. Running the plan starts each step as soon as all of its dependencies
+ * are done, so independent steps run concurrently, each in a session of its own. Dependencies have to be added before
+ * the steps depending on them, which rules out cycles.
+ * <p>
+ * When a step fails the steps depending on it are skipped, the others run to completion. The failure of the first
+ * failed step (in the order the steps were added) is rethrown afterwards. A step that failed because a service it
+ * uses is unavailable, see {@link CircuitBreaker}, is skipped instead: it is not rethrown, but returned with the
+ * steps depending on it.
+ */
+public class IngestionPlan {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IngestionPlan.class);
+
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+
+    @FunctionalInterface
+    public interface Action {
+
+        void run() throws IOException;
+    }
+
+    public IngestionPlan add(String name, Action action, String... dependencies) {
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Step [" + name + "] is already part of the plan");
+        }
+        for (String dependency : dependencies) {
+            if (!steps.containsKey(dependency)) {
+                throw new IllegalArgumentException(
+                    "Step [" + name + "] depends on step [" + dependency + "] which is not part of the plan");
+            }
+        }
+        steps.put(name, new Step(name, action, asList(dependencies)));
+        return this;
+    }
+
+    /**
+     * @return the steps skipped because a service was unavailable, including the steps depending on them
+     */
+    public List<String> run() throws IOException {
+        Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        Map<String, Throwable> failures = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setNameFormat("bb-fuel-step-%d").setDaemon(true).build());
+
+        try {
+            steps.values().forEach(step -> futures.put(step.name, CompletableFuture
+                .allOf(step.dependencies.stream().map(futures::get).toArray(CompletableFuture[]::new))
+                .thenRunAsync(() -> runStep(step, failures), executor)));
+
+            futures.values().forEach(future -> future.handle((result, throwable) -> null).join());
+        } finally {
+            executor.shutdown();
+        }
+
+        steps.values().stream()
+            .filter(step -> futures.get(step.name).isCompletedExceptionally() && !failures.containsKey(step.name))
+            .forEach(step -> LOGGER.warn("Step [{}] skipped, a step it depends on failed", step.name));
+
+        List<String> skipped = new ArrayList<>();
+
+        for (Step step : steps.values()) {
+            Throwable failure = failures.get(step.name);
+            if (futures.get(step.name).isCompletedExceptionally() && (failure == null
+                || unwrap(failure) instanceof CircuitOpenException)) {
+                skipped.add(step.name);
+            } else if (failure instanceof IOException) {
+                throw (IOException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+        }
+        return skipped;
+    }
+
+    private static void runStep(Step step, Map<String, Throwable> failures) {
+        Instant start = Instant.now();
+        LOGGER.info("Step [{}] started", step.name);
+        try {
+            SessionContext.runInSession(SessionContext.newSession(), () -> {
+                try {
+                    step.action.run();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            failures.put(step.name, e.getCause());
+            LOGGER.error("Step [{}] failed", step.name, e.getCause());
+            throw e;
+        } catch (RuntimeException | Error e) {
+            Throwable failure = unwrap(e);
+            failures.put(step.name, failure);
+            if (failure instanceof CircuitOpenException) {
+                LOGGER.warn("Step [{}] skipped, {}", step.name, failure.getMessage());
+            } else {
+                LOGGER.error("Step [{}] failed", step.name, e);
+            }
+            throw e;
+        }
+        LOGGER.info("Step [{}] done in {} seconds", step.name, Duration.between(start, Instant.now()).getSeconds());
+    }
+
+    /**
+     * @return the failure of a request made asynchronously by the step, when it was rejected by a circuit breaker,
+     * otherwise the failure itself
+     */
+    private static Throwable unwrap(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+            && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof CircuitOpenException ? cause : failure;
+    }
+
+    @RequiredArgsConstructor
+    private static class Step {
+
+        private final String name;
+        private final Action action;
+        private final List<String> dependencies;
+    }
+}
@@ -17,6 +17,7 @@ import com.backbase.ct.bbfuel.util.ParserUtil;
 import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.IntegrationIdentifier;
 import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.serviceagreements.Participant;
 import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.serviceagreements.ServiceAgreementPostRequestBody;
+import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.users.permissions.IntegrationAssignUserPermissions;
 import com.backbase.integration.accessgroup.rest.spec.v2.accessgroups.users.permissions.IntegrationFunctionGroupDataGroup;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -103,6 +104,8 @@ public class ServiceAgreementsSetup extends BaseSetup {
     }
 
     private void setupPermissions(String externalServiceAgreementId, Set<Participant> participants) {
+        List<IntegrationAssignUserPermissions> userPermissions = new ArrayList<>();
+
         for (Participant participant : participants) {
             Set<String> externalUserIds = participant.getUsers();
 
@@ -113,15 +116,17 @@ public class ServiceAgreementsSetup extends BaseSetup {
                 List<IntegrationIdentifier> dataGroupIdentifiers = new ArrayList<>();
                 dataGroupIds.forEach(dataGroupId -> dataGroupIdentifiers.add(new IntegrationIdentifier().withIdIdentifier(dataGroupId)));
 
-                this.permissionsConfigurator.assignPermissions(
-                    externalUserId,
-                    externalServiceAgreementId,
+                userPermissions.add(new IntegrationAssignUserPermissions()
+                    .withExternalUserId(externalUserId)
+                    .withExternalServiceAgreementId(externalServiceAgreementId)
                     // TODO assess impact for different job profiles
-                    singletonList(new IntegrationFunctionGroupDataGroup()
+                    .withFunctionGroupDataGroups(singletonList(new IntegrationFunctionGroupDataGroup()
                         .withFunctionGroupIdentifier(
                             new IntegrationIdentifier().withIdIdentifier(this.adminFunctionGroupId))
-                        .withDataGroupIdentifiers(dataGroupIdentifiers)));
+                        .withDataGroupIdentifiers(dataGroupIdentifiers))));
             }
         }
+
+        this.permissionsConfigurator.assignPermissions(userPermissions);
     }
 }
@@ -2,7 +2,8 @@ package com.backbase.ct.bbfuel.util;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Random;
+import java.util.UUID;
 import org.apache.commons.lang.StringUtils;
 
 public class CommonHelpers {
@@ -11,17 +12,30 @@ public class CommonHelpers {
         if (min >= max) {
             throw new IllegalArgumentException("max must be greater than min");
         }
-        return ThreadLocalRandom.current().nextInt((max - min) + 1) + min;
+        return SeededRandom.current().nextInt((max - min) + 1) + min;
     }
 
     public static BigDecimal generateRandomAmountInRange(long min, long max) {
         long clamp = max * 10 - min * 10;
-        long value = Math.abs((ThreadLocalRandom.current().nextLong() % clamp));
+        long value = Math.abs((SeededRandom.current().nextLong() % clamp));
         return new BigDecimal("" + ((value / 10D) + min)).setScale(2, BigDecimal.ROUND_HALF_UP);
     }
 
+    /**
+     * Generate a random UUID, derived from the {@link SeededRandom} when a data seed is set.
+     */
+    public static String generateRandomUuid() {
+        if (!SeededRandom.isEnabled()) {
+            return UUID.randomUUID().toString();
+        }
+        Random random = SeededRandom.current();
+        long mostSignificantBits = (random.nextLong() & ~0xf000L) | 0x4000L;
+        long leastSignificantBits = (random.nextLong() & ~(0xcL << 60)) | (0x8L << 60);
+        return new UUID(mostSignificantBits, leastSignificantBits).toString();
+    }
+
     public static <T> T getRandomFromList(List<T> list) {
-        return list.get(ThreadLocalRandom.current().nextInt(list.size()));
+        return list.get(SeededRandom.current().nextInt(list.size()));
     }
 
     public static long convertMinutesToMillis(long minutes) {
@@ -40,7 +54,7 @@ public class CommonHelpers {
     }
 
     public static <T extends Enum> T getRandomFromEnumValues(T[] values) {
-        return values[ThreadLocalRandom.current().nextInt(values.length)];
+        return values[SeededRandom.current().nextInt(values.length)];
     }
 
 }
@@ -0,0 +1,139 @@
+package com.backbase.ct.bbfuel.util;
+
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_IO_THREADS;
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_IO_VIRTUAL_THREADS;
+
+import com.backbase.ct.bbfuel.client.common.SessionContext;
+import com.backbase.ct.bbfuel.client.common.UserSession;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the blocking I/O fan-out of the ingestion (one task per arrangement, notification, service...) on a bounded
+ * pool of its own instead of the common fork join pool. The size of the pool is set with {@code ingest.io.threads},
+ * or virtual threads are used when {@code ingest.io.virtual.threads} is set and the JVM supports them.
+ * <p>
+ * A fan-out is split in lanes that take items from a shared queue, the calling thread works one lane itself. A lane
+ * that finds no idle thread in the pool runs on the calling thread as well. So a nested fan-out never waits for a
+ * thread that is waiting on it, and it still uses the capacity left in the pool instead of the number of cores.
+ * <p>
+ * Tasks run in the {@link UserSession} of the caller. When the caller generates data with a {@link SeededRandom},
+ * every item gets a random derived from it and its index in the items.
+ */
+@Component
+public class IngestExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IngestExecutor.class);
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private final GlobalProperties globalProperties = GlobalProperties.getInstance();
+    private final int threads;
+    private final ExecutorService executor;
+
+    public IngestExecutor() {
+        this.threads = globalProperties.getInt(PROPERTY_INGEST_IO_THREADS);
+        ExecutorService virtualThreadExecutor = globalProperties.getBoolean(PROPERTY_INGEST_IO_VIRTUAL_THREADS)
+            ? createVirtualThreadExecutor()
+            : null;
+        this.executor = virtualThreadExecutor != null
+            ? virtualThreadExecutor
+            : new ThreadPoolExecutor(0, this.threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("bb-fuel-io-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * @return the default parallelism of a fan-out.
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Perform the action for each of the items, {@code ingest.io.threads} at a time.
+     */
+    public <T> void forEach(Collection<? extends T> items, Consumer<? super T> action) {
+        forEach(items, this.threads, action);
+    }
+
+    /**
+     * Perform the action for each of the items, at most {@code parallelism} at a time. Once an action failed no new
+     * items are started, the failure is rethrown when the running actions are done.
+     */
+    public <T> void forEach(Collection<? extends T> items, int parallelism, Consumer<? super T> action) {
+        List<T> itemList = new ArrayList<>(items);
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicReference<RuntimeException> runtimeFailure = new AtomicReference<>();
+        AtomicReference<Error> errorFailure = new AtomicReference<>();
+        UserSession session = SessionContext.current();
+        Long seed = SeededRandom.currentSeed();
+
+        Runnable lane = () -> SessionContext.runInSession(session, () -> {
+            int index;
+            while (runtimeFailure.get() == null && errorFailure.get() == null
+                && (index = nextIndex.getAndIncrement()) < itemList.size()) {
+                T item = itemList.get(index);
+                try {
+                    SeededRandom.runSplit(seed, index, () -> action.accept(item));
+                } catch (RuntimeException e) {
+                    runtimeFailure.compareAndSet(null, e);
+                } catch (Error e) {
+                    errorFailure.compareAndSet(null, e);
+                }
+            }
+        });
+
+        int lanes = Math.min(Math.max(parallelism, 1), itemList.size());
+        List<CompletableFuture<Void>> otherLanes = IntStream.range(1, lanes)
+            .mapToObj(laneNumber -> CompletableFuture.runAsync(lane, executor))
+            .collect(Collectors.toList());
+        lane.run();
+        CompletableFuture.allOf(otherLanes.toArray(new CompletableFuture[0])).join();
+
+        if (errorFailure.get() != null) {
+            throw errorFailure.get();
+        }
+        if (runtimeFailure.get() != null) {
+            throw runtimeFailure.get();
+        }
+    }
+
+    /**
+     * Perform the action {@code count} times, passing the index of each run.
+     */
+    public void forEachIndex(int count, IntConsumer action) {
+        forEach(IntStream.range(0, count).boxed().collect(Collectors.toList()), action::accept);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOGGER.warn("Virtual threads are not supported by this JVM, using a pool of platform threads instead");
+            return null;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.backbase.ct.bbfuel.util;
+
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_INGEST_JOURNAL_DIRECTORY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Append-only record of the units of work that are done (a legal entity ingested, a data group created, the
+ * transactions of an arrangement ingested...), optionally with a value like the id of what was created. There is one
+ * journal per environment in {@code ingest.journal.directory}.
+ * <p>
+ * Every run writes the journal from scratch, unless it is opened to resume: then the units recorded by the previous
+ * runs are loaded and skipped without any request, and new units are appended.
+ */
+@Component
+public class IngestionJournal {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IngestionJournal.class);
+    private static final String SEPARATOR = "\t";
+    private static final String DONE = "";
+
+    private final Map<String, String> entries = new ConcurrentHashMap<>();
+    private final Path file;
+    private BufferedWriter writer;
+
+    public IngestionJournal() {
+        GlobalProperties globalProperties = GlobalProperties.getInstance();
+        String environment = globalProperties.getString("environment.name");
+        this.file = Paths.get(globalProperties.getString(PROPERTY_INGEST_JOURNAL_DIRECTORY),
+            (environment == null ? "default" : environment) + ".journal");
+    }
+
+    IngestionJournal(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Compose the name of a unit from its type and the identifiers of what it ingests.
+     */
+    public static String unit(String type, String... identifiers) {
+        return identifiers.length == 0 ? type : type + ":" + String.join(":", identifiers);
+    }
+
+    /**
+     * Start recording units. When resuming, the units recorded by previous runs are loaded first.
+     */
+    public synchronized void open(boolean resume) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        if (resume && Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int separator = line.indexOf(SEPARATOR);
+                    // A line without separator was cut off by the end of a previous run
+                    if (separator >= 0) {
+                        entries.put(line.substring(0, separator), line.substring(separator + 1));
+                    }
+                }
+            }
+            LOGGER.info("Resuming with {} units done according to journal [{}]", entries.size(), file);
+        }
+        writer = resume
+            ? Files.newBufferedWriter(file, UTF_8, CREATE, WRITE, APPEND)
+            : Files.newBufferedWriter(file, UTF_8, CREATE, WRITE, TRUNCATE_EXISTING);
+    }
+
+    public boolean isDone(String unit) {
+        return entries.containsKey(unit);
+    }
+
+    /**
+     * @return the value recorded for the unit, or null when the unit is not done.
+     */
+    public String get(String unit) {
+        return entries.get(unit);
+    }
+
+    public void markDone(String unit) {
+        put(unit, DONE);
+    }
+
+    /**
+     * Record the unit as done with the given value, which should not contain line breaks.
+     */
+    public synchronized void put(String unit, String value) {
+        entries.put(unit, value);
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.write(unit + SEPARATOR + value);
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write to journal " + file, e);
+        }
+    }
+
+    /**
+     * Run the action unless the unit is done, and record the unit as done once the action succeeded.
+     */
+    public void runOnce(String unit, Runnable action) {
+        if (isDone(unit)) {
+            LOGGER.debug("Skipping [{}], done according to journal", unit);
+            return;
+        }
+        action.run();
+        markDone(unit);
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.backbase.ct.bbfuel.util;
 
 import static java.util.Arrays.asList;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.io.InputStream;
@@ -16,6 +17,14 @@ public class ParserUtil {
         InputStream resourceAsStream = valueType.getClassLoader().getResourceAsStream(jsonLocation);
         return mapper.readValue(resourceAsStream, valueType);
     }
+    /**
+     * Create a parser to read the json token by token, values can be read with {@link JsonParser#readValueAs(Class)}.
+     */
+    public static JsonParser createJsonParser(String jsonLocation) throws IOException {
+        InputStream resourceAsStream = ParserUtil.class.getClassLoader().getResourceAsStream(jsonLocation);
+        return mapper.getFactory().createParser(resourceAsStream);
+    }
+
     public static <T> List<T> convertJsonToList(String jsonLocation, Class<T> valueType) throws IOException {
         return asList(convertJsonToObject(jsonLocation, valueType));
     }
@@ -0,0 +1,183 @@
+package com.backbase.ct.bbfuel.util;
+
+import static com.backbase.ct.bbfuel.data.CommonConstants.PROPERTY_DATA_SEED;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * Source of the randomness of the generated data. By default values are drawn from {@link ThreadLocalRandom}, so
+ * every run generates different data.
+ * <p>
+ * When {@code data.seed} is set, every entity (legal entity, arrangement, user...) generates its data with a random
+ * of its own, derived from the seed and the external id of the entity, see {@link #runSeeded(String, Runnable)}. The
+ * fan-outs of the {@link IngestExecutor} derive a random per item from the random of the caller and the index of the
+ * item. So runs with the same seed generate the same data however the work is scheduled over the threads, and no
+ * random state is shared between threads.
+ */
+public final class SeededRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final Long RUN_SEED = readRunSeed();
+    private static final ThreadLocal<Scope> CURRENT_SCOPE = new ThreadLocal<>();
+
+    private SeededRandom() {
+    }
+
+    public static boolean isEnabled() {
+        return RUN_SEED != null;
+    }
+
+    /**
+     * @return the random of the entity the current thread generates data for, or the {@link ThreadLocalRandom} when
+     * not seeded.
+     */
+    public static Random current() {
+        Scope scope = CURRENT_SCOPE.get();
+        return scope == null ? ThreadLocalRandom.current() : scope.random;
+    }
+
+    /**
+     * @return a random derived from the run seed and the given key, or a new unseeded random when not seeded.
+     */
+    public static Random forKey(String key) {
+        return RUN_SEED == null ? new Random() : new SplittableRandomAdapter(seedOf(key));
+    }
+
+    /**
+     * @return the seed of the current scope, or null when the current thread is not in a seeded scope.
+     */
+    public static Long currentSeed() {
+        Scope scope = CURRENT_SCOPE.get();
+        return scope == null ? null : scope.seed;
+    }
+
+    /**
+     * Run the task with a random derived from the run seed and the given key, which identifies the entity the task
+     * generates data for. Just runs the task when not seeded.
+     */
+    public static void runSeeded(String key, Runnable task) {
+        callSeeded(key, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public static <T> T callSeeded(String key, Supplier<T> task) {
+        return RUN_SEED == null ? task.get() : callInScope(seedOf(key), task);
+    }
+
+    /**
+     * Run the task with a random derived from the given parent seed and index, the seed being taken with
+     * {@link #currentSeed()} by the thread that hands over the work. Just runs the task when the parent seed is null.
+     */
+    public static void runSplit(Long parentSeed, long index, Runnable task) {
+        callSplit(parentSeed, index, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public static <T> T callSplit(Long parentSeed, long index, Supplier<T> task) {
+        return parentSeed == null ? task.get() : callInScope(mix(parentSeed + GOLDEN_GAMMA * (index + 1)), task);
+    }
+
+    private static <T> T callInScope(long seed, Supplier<T> task) {
+        Scope previous = CURRENT_SCOPE.get();
+        CURRENT_SCOPE.set(new Scope(seed));
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                CURRENT_SCOPE.remove();
+            } else {
+                CURRENT_SCOPE.set(previous);
+            }
+        }
+    }
+
+    private static long seedOf(String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * FNV_PRIME;
+        }
+        return mix(RUN_SEED ^ hash);
+    }
+
+    /**
+     * The finalizer of MurmurHash3, spreads the bits of seeds that are close to each other.
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    private static Long readRunSeed() {
+        String seed = GlobalProperties.getInstance().getString(PROPERTY_DATA_SEED);
+        return StringUtils.isBlank(seed) ? null : Long.valueOf(seed.trim());
+    }
+
+    private static final class Scope {
+
+        private final long seed;
+        private final Random random;
+
+        private Scope(long seed) {
+            this.seed = seed;
+            this.random = new SplittableRandomAdapter(seed);
+        }
+    }
+
+    /**
+     * A {@link Random} backed by a {@link SplittableRandom}, which is not synchronized and generates better values.
+     * It is only used by the thread that created it.
+     */
+    private static final class SplittableRandomAdapter extends Random {
+
+        private static final long serialVersionUID = 1L;
+
+        private final SplittableRandom random;
+
+        private SplittableRandomAdapter(long seed) {
+            this.random = new SplittableRandom(seed);
+        }
+
+        @Override
+        protected int next(int bits) {
+            return (int) (random.nextLong() >>> (Long.SIZE - bits));
+        }
+
+        @Override
+        public int nextInt() {
+            return random.nextInt();
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return random.nextInt(bound);
+        }
+
+        @Override
+        public long nextLong() {
+            return random.nextLong();
+        }
+
+        @Override
+        public double nextDouble() {
+            return random.nextDouble();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return random.nextBoolean();
+        }
+    }
+}
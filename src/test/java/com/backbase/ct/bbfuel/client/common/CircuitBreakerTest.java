@@ -0,0 +1,82 @@
+package com.backbase.ct.bbfuel.client.common;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.Test;
+
+public class CircuitBreakerTest {
+
+    private static final int SC_OK = 200;
+    private static final int SC_BAD_REQUEST = 400;
+    private static final int SC_SERVICE_UNAVAILABLE = 503;
+
+    @Test
+    public void testCircuitOpensAfterFailuresInARow() {
+        CircuitBreaker subject = new CircuitBreaker("service", 3, 60);
+
+        subject.acquire().record(-1);
+        subject.acquire().record(SC_SERVICE_UNAVAILABLE);
+        subject.acquire().record(SC_BAD_REQUEST);
+        subject.acquire().record(-1);
+        subject.acquire().record(-1);
+
+        assertThat(subject.isOpen(), is(false));
+
+        subject.acquire().record(-1);
+
+        assertThat(subject.isOpen(), is(true));
+    }
+
+    @Test(expected = CircuitOpenException.class)
+    public void testRequestsFailFastWhileOpen() {
+        CircuitBreaker subject = new CircuitBreaker("service", 1, 60);
+        subject.acquire().record(-1);
+
+        subject.acquire();
+    }
+
+    @Test
+    public void testSingleProbeClosesCircuit() {
+        CircuitBreaker subject = new CircuitBreaker("service", 1, 0);
+        subject.acquire().record(-1);
+
+        CircuitBreaker.Attempt probe = subject.acquire();
+        try {
+            subject.acquire();
+            throw new AssertionError("Only one probe is expected to be let through");
+        } catch (CircuitOpenException e) {
+            assertThat(subject.isOpen(), is(true));
+        }
+        probe.record(SC_OK);
+
+        assertThat(subject.isOpen(), is(false));
+        subject.acquire();
+    }
+
+    @Test
+    public void testFailedProbeOpensCircuitAgain() {
+        CircuitBreaker subject = new CircuitBreaker("service", 1, 0);
+        subject.acquire().record(-1);
+
+        subject.acquire().record(SC_SERVICE_UNAVAILABLE);
+
+        assertThat(subject.isOpen(), is(true));
+    }
+
+    @Test
+    public void testOnlyProbeClosesCircuit() {
+        CircuitBreaker subject = new CircuitBreaker("service", 1, 0);
+        CircuitBreaker.Attempt inFlight = subject.acquire();
+        subject.acquire().record(-1);
+
+        CircuitBreaker.Attempt probe = subject.acquire();
+        inFlight.record(SC_OK);
+
+        assertThat(subject.isOpen(), is(true));
+
+        probe.record(SC_OK);
+
+        assertThat(subject.isOpen(), is(false));
+    }
+}
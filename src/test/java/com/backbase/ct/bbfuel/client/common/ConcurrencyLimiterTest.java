@@ -0,0 +1,59 @@
+package com.backbase.ct.bbfuel.client.common;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.backbase.ct.bbfuel.client.common.ConcurrencyLimiter.Permit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class ConcurrencyLimiterTest {
+
+    private static final int SC_OK = 200;
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+
+    private ConcurrencyLimiter subject = new ConcurrencyLimiter("service", 2, 4, 0.5, 1000);
+
+    @Test
+    public void testLimitGrowsWhileUsed() {
+        Permit permit1 = subject.acquire();
+        Permit permit2 = subject.acquire();
+        permit1.release(SC_OK);
+        permit2.release(SC_OK);
+
+        assertThat(subject.getLimit(), is(4));
+
+        for (int i = 0; i < 10; i++) {
+            subject.acquire().release(SC_OK);
+        }
+
+        assertThat(subject.getLimit(), is(4));
+    }
+
+    @Test
+    public void testLimitIsCutOncePerBurstOfOverload() {
+        Permit permit1 = subject.acquire();
+        Permit permit2 = subject.acquire();
+        permit1.release(SC_TOO_MANY_REQUESTS);
+        permit2.release(SC_TOO_MANY_REQUESTS);
+
+        assertThat(subject.getLimit(), is(1));
+    }
+
+    @Test
+    public void testRequestsWaitForPermit() throws Exception {
+        Permit permit1 = subject.acquire();
+        Permit permit2 = subject.acquire();
+
+        CompletableFuture<Permit> waiting = CompletableFuture.supplyAsync(subject::acquire);
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(waiting.isDone(), is(false));
+
+        permit1.release(SC_OK);
+        waiting.get(5, TimeUnit.SECONDS).release(SC_OK);
+        permit2.release(SC_OK);
+
+        assertThat(subject.getInFlight(), is(0));
+    }
+}
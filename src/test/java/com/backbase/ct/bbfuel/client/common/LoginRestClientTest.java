@@ -0,0 +1,93 @@
+package com.backbase.ct.bbfuel.client.common;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.backbase.ct.bbfuel.config.BbFuelConfiguration;
+import com.backbase.ct.bbfuel.config.PlatformConfig;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LoginRestClientTest {
+
+    private static final int SC_OK = 200;
+    private static final int SC_UNAUTHORIZED = 401;
+    private static final String USERNAME = "user";
+    private static final String PATH = "/resource";
+
+    private final Queue<Integer> statusCodes = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger logins = new AtomicInteger();
+    private final RestClient client = new RestClient();
+    private HttpServer server;
+    private LoginRestClient subject;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            int statusCode = SC_OK;
+            if ("POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().add("Set-Cookie", "SESSION=" + logins.incrementAndGet());
+            } else if (!statusCodes.isEmpty()) {
+                statusCode = statusCodes.poll();
+            }
+            exchange.sendResponseHeaders(statusCode, -1);
+            exchange.close();
+        });
+        server.start();
+        String uri = "http://localhost:" + server.getAddress().getPort();
+
+        PlatformConfig platform = new PlatformConfig();
+        platform.setAuth(uri);
+        BbFuelConfiguration config = new BbFuelConfiguration();
+        config.setPlatform(platform);
+        subject = new LoginRestClient(config, null);
+        subject.init();
+        client.setBaseUri(uri);
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+        RestClient.setReauthentication(null);
+    }
+
+    @Test
+    public void testLoginIsSharedBySessionsOfUser() {
+        SessionContext.runInNewSession(() -> subject.login(USERNAME, USERNAME));
+        SessionContext.runInNewSession(() -> subject.login(USERNAME, USERNAME));
+
+        assertThat(logins.get(), is(1));
+    }
+
+    @Test
+    public void testRejectedLoginIsRenewedOnce() {
+        UserSession first = SessionContext.newSession();
+        UserSession second = SessionContext.newSession();
+        SessionContext.runInSession(first, () -> subject.login(USERNAME, USERNAME));
+        SessionContext.runInSession(second, () -> subject.login(USERNAME, USERNAME));
+        statusCodes.add(SC_UNAUTHORIZED);
+
+        int statusCode = SessionContext.callInSession(first, () -> client.send(requestSpec -> requestSpec.get(PATH)))
+            .statusCode();
+
+        assertThat(statusCode, is(SC_OK));
+        assertThat(logins.get(), is(2));
+
+        statusCodes.add(SC_UNAUTHORIZED);
+
+        statusCode = SessionContext.callInSession(second, () -> client.send(requestSpec -> requestSpec.get(PATH)))
+            .statusCode();
+
+        assertThat(statusCode, is(SC_OK));
+        assertThat(logins.get(), is(2));
+        assertThat(second.getCookies().get("SESSION"), is("2"));
+    }
+}
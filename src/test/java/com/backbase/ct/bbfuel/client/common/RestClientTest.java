@@ -0,0 +1,184 @@
+package com.backbase.ct.bbfuel.client.common;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RestClientTest {
+
+    private static final int SC_OK = 200;
+    private static final int SC_BAD_REQUEST = 400;
+    private static final int SC_CONFLICT = 409;
+    private static final int SC_UNAUTHORIZED = 401;
+    private static final int SC_FORBIDDEN = 403;
+    private static final int SC_NOT_FOUND = 404;
+    private static final int SC_SERVICE_UNAVAILABLE = 503;
+    private static final String PATH = "/resource";
+    private static final String ARRANGEMENTS_PATH = "/arrangements";
+    private static final String ARRANGEMENT_PATH = "/arrangements/A01";
+
+    private final Queue<Integer> statusCodes = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final List<String> cookieHeaders = new CopyOnWriteArrayList<>();
+    private final List<String> methods = new CopyOnWriteArrayList<>();
+    private final List<String> paths = new CopyOnWriteArrayList<>();
+    private final RestClient subject = new RestClient();
+    private HttpServer server;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            hits.incrementAndGet();
+            methods.add(exchange.getRequestMethod());
+            paths.add(exchange.getRequestURI().getPath());
+            cookieHeaders.add(String.valueOf(exchange.getRequestHeaders().getFirst("Cookie")));
+            Integer statusCode = statusCodes.poll();
+            exchange.sendResponseHeaders(statusCode == null ? SC_OK : statusCode, -1);
+            exchange.close();
+        });
+        server.start();
+        subject.setBaseUri("http://localhost:" + server.getAddress().getPort());
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+        RestClient.setReauthentication(null);
+        RestClient.setContextSelection(null);
+    }
+
+    @Test
+    public void testTransientFailureIsMadeAgain() {
+        statusCodes.add(SC_SERVICE_UNAVAILABLE);
+
+        Response response = subject.send(requestSpec -> requestSpec.get(PATH));
+
+        assertThat(response.statusCode(), is(SC_OK));
+        assertThat(hits.get(), is(2));
+    }
+
+    @Test
+    public void testPostIsOnlyMadeAgainWhenSafe() {
+        statusCodes.add(SC_SERVICE_UNAVAILABLE);
+        statusCodes.add(SC_SERVICE_UNAVAILABLE);
+
+        assertThat(subject.send(requestSpec -> requestSpec.post(PATH)).statusCode(), is(SC_SERVICE_UNAVAILABLE));
+        assertThat(hits.get(), is(1));
+
+        assertThat(subject.sendRetryable(requestSpec -> requestSpec.post(PATH)).statusCode(), is(SC_OK));
+        assertThat(hits.get(), is(3));
+    }
+
+    @Test
+    public void testResourceCreatedByEarlierAttemptIsLookedUp() {
+        statusCodes.add(SC_SERVICE_UNAVAILABLE);
+        statusCodes.add(SC_BAD_REQUEST);
+
+        Response response = subject.sendRetryable(requestSpec -> requestSpec.post(PATH),
+            requestSpec -> requestSpec.get(PATH));
+
+        assertThat(response.statusCode(), is(SC_OK));
+        assertThat(methods, contains("POST", "POST", "GET"));
+    }
+
+    @Test
+    public void testArrangementCreatedByEarlierAttemptIsLookedUpByItsId() {
+        statusCodes.add(SC_SERVICE_UNAVAILABLE);
+        statusCodes.add(SC_CONFLICT);
+
+        Response response = subject.sendRetryable(requestSpec -> requestSpec.post(ARRANGEMENTS_PATH),
+            requestSpec -> requestSpec.get(ARRANGEMENT_PATH));
+
+        assertThat(response.statusCode(), is(SC_OK));
+        assertThat(methods, contains("POST", "POST", "GET"));
+        assertThat(paths, contains(ARRANGEMENTS_PATH, ARRANGEMENTS_PATH, ARRANGEMENT_PATH));
+    }
+
+    @Test
+    public void testRejectionIsKeptWhenLookupFindsNothing() {
+        statusCodes.add(SC_SERVICE_UNAVAILABLE);
+        statusCodes.add(SC_BAD_REQUEST);
+        statusCodes.add(SC_NOT_FOUND);
+
+        Response response = subject.sendRetryable(requestSpec -> requestSpec.post(ARRANGEMENTS_PATH),
+            requestSpec -> requestSpec.get(ARRANGEMENT_PATH));
+
+        assertThat(response.statusCode(), is(SC_BAD_REQUEST));
+        assertThat(methods, contains("POST", "POST", "GET"));
+    }
+
+    @Test
+    public void testRejectedFirstAttemptIsNotLookedUp() {
+        statusCodes.add(SC_BAD_REQUEST);
+
+        Response response = subject.sendRetryable(requestSpec -> requestSpec.post(PATH),
+            requestSpec -> requestSpec.get(PATH));
+
+        assertThat(response.statusCode(), is(SC_BAD_REQUEST));
+        assertThat(methods, contains("POST"));
+    }
+
+    @Test
+    public void testRejectedRequestIsMadeAgainAfterLoggingIn() {
+        statusCodes.add(SC_UNAUTHORIZED);
+        UserSession session = new UserSession();
+        session.renew("user", new Object());
+        session.addCookies(singletonMap("SESSION", "expired"));
+        RestClient.setReauthentication(rejected -> rejected.addCookies(singletonMap("SESSION", "renewed")));
+
+        Response response = SessionContext.callInSession(session,
+            () -> subject.send(requestSpec -> requestSpec.post(PATH)));
+
+        assertThat(response.statusCode(), is(SC_OK));
+        assertThat(hits.get(), is(2));
+        assertThat(cookieHeaders.get(0), containsString("SESSION=expired"));
+        assertThat(cookieHeaders.get(1), containsString("SESSION=renewed"));
+    }
+
+    @Test
+    public void testForbiddenRequestIsNotMadeAgain() {
+        statusCodes.add(SC_FORBIDDEN);
+        UserSession session = new UserSession();
+        session.renew("user", new Object());
+        AtomicInteger reauthentications = new AtomicInteger();
+        RestClient.setReauthentication(rejected -> reauthentications.incrementAndGet());
+
+        Response response = SessionContext.callInSession(session,
+            () -> subject.send(requestSpec -> requestSpec.get(PATH)));
+
+        assertThat(response.statusCode(), is(SC_FORBIDDEN));
+        assertThat(hits.get(), is(1));
+        assertThat(reauthentications.get(), is(0));
+    }
+
+    @Test
+    public void testUserContextIsSelectedAgainAfterLoggingIn() {
+        statusCodes.add(SC_UNAUTHORIZED);
+        UserSession session = new UserSession();
+        session.renew("user", new Object());
+        session.setServiceAgreementId("sa-1");
+        RestClient.setReauthentication(rejected -> rejected.renew("user", new Object()));
+        RestClient.setContextSelection(() -> SessionContext.current().setServiceAgreementId("sa-1"));
+
+        SessionContext.runInSession(session, () -> subject.send(requestSpec -> requestSpec.get(PATH)));
+
+        assertThat(session.getServiceAgreementId(), is("sa-1"));
+        assertThat(hits.get(), is(2));
+    }
+}
@@ -0,0 +1,49 @@
+package com.backbase.ct.bbfuel.client.common;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.junit.Test;
+
+public class RetryPolicyTest {
+
+    private RetryPolicy subject = new RetryPolicy(3, 100, 300, 0.5, 1);
+
+    @Test
+    public void testTransientStatusCodes() {
+        assertThat(RetryPolicy.isTransient(-1), is(true));
+        assertThat(RetryPolicy.isTransient(429), is(true));
+        assertThat(RetryPolicy.isTransient(502), is(true));
+        assertThat(RetryPolicy.isTransient(503), is(true));
+        assertThat(RetryPolicy.isTransient(504), is(true));
+        assertThat(RetryPolicy.isTransient(400), is(false));
+        assertThat(RetryPolicy.isTransient(500), is(false));
+    }
+
+    @Test
+    public void testRetriesAreLimitedByAttemptsAndBudget() {
+        subject.recordRequest();
+        subject.recordRequest();
+
+        assertThat(subject.tryRetry(3), is(false));
+        assertThat(subject.tryRetry(1), is(true));
+        assertThat(subject.tryRetry(2), is(true));
+        assertThat(subject.tryRetry(1), is(false));
+
+        subject.recordRequest();
+        subject.recordRequest();
+
+        assertThat(subject.tryRetry(1), is(true));
+        assertThat(subject.getRetries(), is(3L));
+    }
+
+    @Test
+    public void testBackoffGrowsUpToMax() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(subject.backoffMillis(1), lessThanOrEqualTo(100L));
+            assertThat(subject.backoffMillis(2), lessThanOrEqualTo(200L));
+            assertThat(subject.backoffMillis(70), lessThanOrEqualTo(300L));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.backbase.ct.bbfuel.client.common;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.Test;
+
+public class SessionContextTest {
+
+    private static final String XSRF_TOKEN = "XSRF-TOKEN";
+
+    @Test
+    public void testSessionIsBoundForTheDurationOfTask() {
+        UserSession defaultSession = SessionContext.current();
+        UserSession session = new UserSession();
+
+        SessionContext.runInSession(session, () -> {
+            assertThat(SessionContext.current(), sameInstance(session));
+            SessionContext.runInNewSession(() -> assertThat(SessionContext.current(), not(sameInstance(session))));
+            assertThat(SessionContext.current(), sameInstance(session));
+        });
+
+        assertThat(SessionContext.current(), sameInstance(defaultSession));
+    }
+
+    @Test
+    public void testCookiesAreIsolatedBetweenSessions() {
+        UserSession session1 = new UserSession();
+        UserSession session2 = new UserSession();
+
+        CompletableFuture.allOf(
+            CompletableFuture.runAsync(() -> SessionContext.runInSession(session1,
+                () -> SessionContext.current().addCookies(singletonMap(XSRF_TOKEN, "token-1")))),
+            CompletableFuture.runAsync(() -> SessionContext.runInSession(session2,
+                () -> SessionContext.current().addCookies(singletonMap(XSRF_TOKEN, "token-2")))))
+            .join();
+
+        assertThat(session1.getXsrfToken(), is("token-1"));
+        assertThat(session2.getXsrfToken(), is("token-2"));
+        assertThat(new UserSession().getXsrfToken(), nullValue());
+    }
+
+    @Test
+    public void testSelectedContextIsKeptUntilSessionIsRenewed() {
+        UserSession session = new UserSession();
+        Object login = new Object();
+
+        assertThat(session.renew("admin", login), is(true));
+        session.setServiceAgreementId("sa-1");
+
+        assertThat(session.renew("admin", login), is(false));
+        assertThat(session.getServiceAgreementId(), is("sa-1"));
+
+        assertThat(session.renew("admin", new Object()), is(true));
+        assertThat(session.getServiceAgreementId(), nullValue());
+    }
+}
@@ -3,10 +3,12 @@ package com.backbase.ct.bbfuel.enrich;
 import static com.backbase.ct.bbfuel.service.factory.LegalEntityWithUsersFactory.createLegalEntityWithUsers;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 
+import com.backbase.ct.bbfuel.dto.Category;
 import com.backbase.ct.bbfuel.dto.LegalEntityWithUsers;
 import java.util.List;
 import org.junit.Test;
@@ -33,6 +35,17 @@ public class LegalEntityWithUsersEnricherTest {
         });
     }
 
+    @Test
+    public void testRetailLegalEntityNameIsUnique() {
+        LegalEntityWithUsers le = createLegalEntityWithUsers("U0001");
+        le.setLegalEntityExternalId("C000001");
+        le.setCategory(Category.RETAIL);
+
+        subject.enrich(singletonList(le));
+
+        assertThat(le.getLegalEntityName(), endsWith(" (C000001)"));
+    }
+
     @Test
     public void testUsernameConversion() {
         LegalEntityWithUsers le = createLegalEntityWithUsers("alice.johnson_IS_NICE");
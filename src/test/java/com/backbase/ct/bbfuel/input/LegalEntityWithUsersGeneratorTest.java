@@ -0,0 +1,58 @@
+package com.backbase.ct.bbfuel.input;
+
+import static java.util.Collections.emptyList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import com.backbase.ct.bbfuel.dto.Category;
+import com.backbase.ct.bbfuel.dto.LegalEntityWithUsers;
+import com.backbase.ct.bbfuel.enrich.LegalEntityWithUsersEnricher;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LegalEntityWithUsersGeneratorTest {
+
+    @InjectMocks
+    private LegalEntityWithUsersGenerator subject;
+
+    @Mock
+    private LegalEntityWithUsersEnricher legalEntityWithUsersEnricher;
+
+    @Test
+    public void testStreamGeneratesNumberedPopulation() {
+        List<LegalEntityWithUsers> legalEntities = generate();
+
+        assertThat(legalEntities, hasSize(5));
+        assertThat(legalEntities.get(0).getLegalEntityExternalId(), is("LE0000001"));
+        assertThat(legalEntities.get(0).getLegalEntityName(), is("Customer 0000001"));
+        assertThat(legalEntities.get(0).getCategory(), is(Category.RETAIL));
+        assertThat(legalEntities.get(0).getUsers(), hasSize(1));
+        assertThat(legalEntities.get(0).getUsers().get(0).getExternalId(), is("U0000001"));
+        assertThat(legalEntities.get(3).getLegalEntityName(), is("Company 0000004"));
+        assertThat(legalEntities.get(3).getCategory(), is(Category.BUSINESS));
+        assertThat(legalEntities.get(3).getUsers().get(0).getExternalId(), is("U0000004"));
+        assertThat(legalEntities.get(3).getUsers().get(0).getRole(), is("admin"));
+        assertThat(legalEntities.get(4).getUsers().size(), allOf(greaterThanOrEqualTo(2), lessThanOrEqualTo(20)));
+    }
+
+    @Test
+    public void testStreamGeneratesSamePopulationEveryRun() {
+        assertThat(generate(), is(generate()));
+    }
+
+    private List<LegalEntityWithUsers> generate() {
+        List<LegalEntityWithUsers> legalEntities = new ArrayList<>();
+        subject.stream(3, 2, emptyList(), legalEntities::add);
+        return legalEntities;
+    }
+}
@@ -2,11 +2,13 @@ package com.backbase.ct.bbfuel.input;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 
 import com.backbase.ct.bbfuel.dto.LegalEntityWithUsers;
 import com.backbase.ct.bbfuel.dto.User;
 import com.backbase.ct.bbfuel.enrich.LegalEntityWithUsersEnricher;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -53,6 +55,15 @@ public class LegalEntityWithUsersReaderTest {
         assertThat(legalEntities, hasSize(140));
     }
 
+    @Test
+    public void testStreamingPerformanceRetailJson() {
+        String uri = "data/performance/performance-test-legal-entities-with-users-retail.json";
+        List<LegalEntityWithUsers> legalEntities = new ArrayList<>();
+        subject.stream(uri, legalEntities::add);
+        assertThat(legalEntities, hasSize(140));
+        assertThat(legalEntities.get(139), is(subject.load(uri).get(139)));
+    }
+
     @Test
     public void testReadingExampleJson() {
         List<LegalEntityWithUsers> legalEntities =
@@ -0,0 +1,130 @@
+package com.backbase.ct.bbfuel.service;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.backbase.ct.bbfuel.client.accessgroup.ServiceAgreementsPresentationRestClient;
+import com.backbase.ct.bbfuel.client.accessgroup.UserContextPresentationRestClient;
+import com.backbase.ct.bbfuel.client.common.LoginRestClient;
+import com.backbase.ct.bbfuel.client.legalentity.LegalEntityPresentationRestClient;
+import com.backbase.ct.bbfuel.client.user.UserPresentationRestClient;
+import com.backbase.ct.bbfuel.dto.User;
+import com.backbase.ct.bbfuel.dto.UserContext;
+import com.backbase.ct.bbfuel.util.IngestExecutor;
+import com.backbase.ct.bbfuel.util.IngestionJournal;
+import com.backbase.presentation.accessgroup.rest.spec.v2.accessgroups.serviceagreements.ServiceAgreementGetResponseBody;
+import com.backbase.presentation.user.rest.spec.v2.users.LegalEntityByUserGetResponseBody;
+import com.backbase.presentation.user.rest.spec.v2.users.UserGetResponseBody;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class UserContextServiceTest {
+
+    private static final String INTERNAL_LEGAL_ENTITY_ID = "le-1";
+    private static final String EXTERNAL_LEGAL_ENTITY_ID = "C000001";
+    private static final String INTERNAL_SERVICE_AGREEMENT_ID = "sa-1";
+    private static final String EXTERNAL_SERVICE_AGREEMENT_ID = "SA000001";
+
+    @Mock
+    private LoginRestClient loginRestClient;
+
+    @Mock
+    private UserPresentationRestClient userPresentationRestClient;
+
+    @Mock
+    private UserContextPresentationRestClient userContextPresentationRestClient;
+
+    @Mock
+    private ServiceAgreementsPresentationRestClient serviceAgreementsPresentationRestClient;
+
+    @Mock
+    private LegalEntityPresentationRestClient legalEntityPresentationRestClient;
+
+    private IngestExecutor ingestExecutor = new IngestExecutor();
+
+    private UserContextService subject;
+
+    @Before
+    public void setUp() {
+        subject = new UserContextService(loginRestClient, userPresentationRestClient,
+            userContextPresentationRestClient, serviceAgreementsPresentationRestClient,
+            legalEntityPresentationRestClient, ingestExecutor, new IngestionJournal());
+
+        when(userPresentationRestClient.getUserByExternalId(anyString()))
+            .thenAnswer(invocation -> new UserGetResponseBody().withId("id-" + invocation.getArguments()[0]));
+        when(userPresentationRestClient.retrieveLegalEntityByExternalUserId(anyString()))
+            .thenReturn(new LegalEntityByUserGetResponseBody()
+                .withId(INTERNAL_LEGAL_ENTITY_ID)
+                .withExternalId(EXTERNAL_LEGAL_ENTITY_ID));
+        when(legalEntityPresentationRestClient.getMasterServiceAgreementOfLegalEntity(INTERNAL_LEGAL_ENTITY_ID))
+            .thenReturn(new ServiceAgreementGetResponseBody().withId(INTERNAL_SERVICE_AGREEMENT_ID));
+        when(serviceAgreementsPresentationRestClient.retrieveServiceAgreement(INTERNAL_SERVICE_AGREEMENT_ID))
+            .thenReturn(new ServiceAgreementGetResponseBody()
+                .withId(INTERNAL_SERVICE_AGREEMENT_ID)
+                .withExternalId(EXTERNAL_SERVICE_AGREEMENT_ID));
+    }
+
+    @After
+    public void tearDown() {
+        ingestExecutor.shutdown();
+    }
+
+    @Test
+    public void testUserContextIsResolvedOnce() {
+        User user = User.builder().externalId("U0001").build();
+
+        UserContext userContext = subject.getUserContextBasedOnMSAByExternalUserId(user);
+
+        assertThat(userContext.getInternalUserId(), is("id-U0001"));
+        assertThat(userContext.getExternalLegalEntityId(), is(EXTERNAL_LEGAL_ENTITY_ID));
+        assertThat(userContext.getInternalServiceAgreementId(), is(INTERNAL_SERVICE_AGREEMENT_ID));
+        assertThat(userContext.getExternalServiceAgreementId(), is(EXTERNAL_SERVICE_AGREEMENT_ID));
+        assertThat(subject.getUserContextBasedOnMSAByExternalUserId(user), is(sameInstance(userContext)));
+        verify(userPresentationRestClient, times(1)).getUserByExternalId("U0001");
+        verify(loginRestClient, times(1)).login(anyString(), anyString());
+    }
+
+    @Test
+    public void testUsersOfLegalEntityShareMasterServiceAgreement() {
+        List<User> users = asList(User.builder().externalId("U0001").build(),
+            User.builder().externalId("U0002").build(),
+            User.builder().externalId("U0003").build());
+        List<String> preparedLegalEntities = new ArrayList<>();
+
+        List<UserContext> userContexts = subject.resolveUserContexts(users, preparedLegalEntities::add);
+
+        assertThat(userContexts.size(), is(3));
+        for (int i = 0; i < users.size(); i++) {
+            assertThat(userContexts.get(i).getExternalUserId(), is(users.get(i).getExternalId()));
+            assertThat(userContexts.get(i).getExternalServiceAgreementId(), is(EXTERNAL_SERVICE_AGREEMENT_ID));
+        }
+        assertThat(preparedLegalEntities, is(asList(EXTERNAL_LEGAL_ENTITY_ID)));
+        verify(legalEntityPresentationRestClient, times(1))
+            .getMasterServiceAgreementOfLegalEntity(INTERNAL_LEGAL_ENTITY_ID);
+
+        subject.getUserContextBasedOnMSAByExternalUserId(users.get(1));
+        verify(userPresentationRestClient, times(1)).getUserByExternalId("U0002");
+    }
+
+    @Test
+    public void testAdminContextIsSelectedEachTimeSessionIsUsed() {
+        subject.getUserContextBasedOnMSAByExternalUserId(User.builder().externalId("U0001").build());
+        subject.getUserContextBasedOnMSAByExternalUserId(User.builder().externalId("U0002").build());
+
+        verify(loginRestClient, times(1)).login(anyString(), anyString());
+        verify(userContextPresentationRestClient, times(2)).selectContextBasedOnMasterServiceAgreement();
+    }
+}
@@ -0,0 +1,149 @@
+package com.backbase.ct.bbfuel.setup;
+
+import static com.backbase.ct.bbfuel.data.CommonConstants.EXTERNAL_ROOT_LEGAL_ENTITY_ID;
+import static com.backbase.ct.bbfuel.dto.entitlement.JobProfile.PROFILE_ROLE_ADMIN;
+import static com.backbase.ct.bbfuel.service.JobProfileService.ADMIN_FUNCTION_GROUP_NAME;
+import static com.backbase.ct.bbfuel.service.factory.ProductGroupSeedFactory.PRODUCT_GROUP_NAME_INTTRADE;
+import static com.backbase.ct.bbfuel.service.factory.ProductGroupSeedFactory.PRODUCT_GROUP_NAME_PAYROLL;
+import static com.backbase.ct.bbfuel.service.factory.ProductGroupSeedFactory.createProductGroupSeeds;
+import static com.backbase.ct.bbfuel.util.IngestionJournal.unit;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import com.backbase.ct.bbfuel.client.accessgroup.UserContextPresentationRestClient;
+import com.backbase.ct.bbfuel.client.common.LoginRestClient;
+import com.backbase.ct.bbfuel.configurator.AccessGroupsConfigurator;
+import com.backbase.ct.bbfuel.configurator.LegalEntitiesAndUsersConfigurator;
+import com.backbase.ct.bbfuel.configurator.PermissionsConfigurator;
+import com.backbase.ct.bbfuel.configurator.ProductSummaryConfigurator;
+import com.backbase.ct.bbfuel.configurator.ServiceAgreementsConfigurator;
+import com.backbase.ct.bbfuel.configurator.TransactionsConfigurator;
+import com.backbase.ct.bbfuel.dto.entitlement.JobProfile;
+import com.backbase.ct.bbfuel.enrich.ProductGroupSeedEnricher;
+import com.backbase.ct.bbfuel.input.JobProfileReader;
+import com.backbase.ct.bbfuel.input.LegalEntityWithUsersGenerator;
+import com.backbase.ct.bbfuel.input.LegalEntityWithUsersReader;
+import com.backbase.ct.bbfuel.input.ProductGroupSeedReader;
+import com.backbase.ct.bbfuel.input.validation.ProductGroupAssignmentValidator;
+import com.backbase.ct.bbfuel.service.AccessGroupService;
+import com.backbase.ct.bbfuel.service.FunctionService;
+import com.backbase.ct.bbfuel.service.JobProfileService;
+import com.backbase.ct.bbfuel.service.ProductGroupService;
+import com.backbase.ct.bbfuel.service.UserContextService;
+import com.backbase.ct.bbfuel.util.IngestExecutor;
+import com.backbase.ct.bbfuel.util.IngestionJournal;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AccessControlSetupTest {
+
+    private static final String EXTERNAL_SERVICE_AGREEMENT_ID = "SA000001";
+
+    @Mock
+    private UserContextPresentationRestClient userContextPresentationRestClient;
+
+    @Mock
+    private AccessGroupService accessGroupService;
+
+    @Mock
+    private LegalEntitiesAndUsersConfigurator legalEntitiesAndUsersConfigurator;
+
+    @Mock
+    private ProductSummaryConfigurator productSummaryConfigurator;
+
+    @Mock
+    private ServiceAgreementsConfigurator serviceAgreementsConfigurator;
+
+    @Mock
+    private PermissionsConfigurator permissionsConfigurator;
+
+    @Mock
+    private TransactionsConfigurator transactionsConfigurator;
+
+    @Mock
+    private LegalEntityWithUsersReader legalEntityWithUsersReader;
+
+    @Mock
+    private LegalEntityWithUsersGenerator legalEntityWithUsersGenerator;
+
+    @Mock
+    private ProductGroupAssignmentValidator productGroupAssignmentValidator;
+
+    @Mock
+    private ProductGroupSeedEnricher productGroupEnricher;
+
+    @Mock
+    private UserContextService userContextService;
+
+    @Mock
+    private LoginRestClient loginRestClient;
+
+    @Mock
+    private JobProfileReader jobProfileReader;
+
+    @Mock
+    private ProductGroupSeedReader productGroupSeedReader;
+
+    @Mock
+    private FunctionService functionService;
+
+    private final JobProfileService jobProfileService = new JobProfileService();
+
+    private final ProductGroupService productGroupService = new ProductGroupService();
+
+    private final IngestionJournal journal = new IngestionJournal();
+
+    private AccessControlSetup subject;
+
+    @Before
+    public void setUp() {
+        AccessGroupsConfigurator accessGroupsConfigurator = new AccessGroupsConfigurator(functionService,
+            accessGroupService, jobProfileService, productGroupService, journal);
+        subject = new AccessControlSetup(userContextPresentationRestClient, accessGroupService,
+            legalEntitiesAndUsersConfigurator, productSummaryConfigurator, accessGroupsConfigurator,
+            serviceAgreementsConfigurator, permissionsConfigurator, transactionsConfigurator,
+            legalEntityWithUsersReader, legalEntityWithUsersGenerator, jobProfileService, productGroupService,
+            productGroupAssignmentValidator, productGroupEnricher, userContextService, loginRestClient,
+            new IngestExecutor(), journal, jobProfileReader, productGroupSeedReader);
+
+        when(jobProfileReader.load()).thenReturn(singletonList(JobProfile.builder()
+            .jobProfileName(ADMIN_FUNCTION_GROUP_NAME)
+            .roles(singletonList(PROFILE_ROLE_ADMIN))
+            .isRetail(false)
+            .build()));
+        when(productGroupSeedReader.load())
+            .thenReturn(createProductGroupSeeds(asList(PRODUCT_GROUP_NAME_PAYROLL, PRODUCT_GROUP_NAME_INTTRADE)));
+        when(legalEntityWithUsersReader.load()).thenReturn(emptyList());
+    }
+
+    @Test
+    public void testResumeRestoresAccessControlOfLegalEntity() {
+        journal.markDone(unit("legal-entity", EXTERNAL_ROOT_LEGAL_ENTITY_ID));
+        journal.markDone("products");
+        journal.put(unit("access-control", EXTERNAL_ROOT_LEGAL_ENTITY_ID), EXTERNAL_SERVICE_AGREEMENT_ID);
+        journal.put(unit("function-group", EXTERNAL_SERVICE_AGREEMENT_ID, ADMIN_FUNCTION_GROUP_NAME), "fg-1");
+        journal.put(unit("data-group", EXTERNAL_SERVICE_AGREEMENT_ID, PRODUCT_GROUP_NAME_PAYROLL), "dg-1");
+        // Existed before it was ingested, so it was not journaled
+        when(accessGroupService.retrieveDataGroupId(null, EXTERNAL_SERVICE_AGREEMENT_ID,
+            PRODUCT_GROUP_NAME_INTTRADE)).thenReturn("dg-2");
+
+        subject.initiate();
+
+        assertThat(jobProfileService.getAssignedJobProfiles(EXTERNAL_SERVICE_AGREEMENT_ID).get(0).getId(),
+            is("fg-1"));
+        assertThat(productGroupService.findAssignedProductGroupsIds(EXTERNAL_SERVICE_AGREEMENT_ID),
+            containsInAnyOrder("dg-1", "dg-2"));
+        verifyZeroInteractions(legalEntitiesAndUsersConfigurator, productSummaryConfigurator,
+            permissionsConfigurator, functionService, loginRestClient);
+    }
+}
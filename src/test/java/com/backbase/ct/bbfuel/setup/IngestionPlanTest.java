@@ -0,0 +1,103 @@
+package com.backbase.ct.bbfuel.setup;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+
+import com.backbase.ct.bbfuel.client.common.CircuitOpenException;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class IngestionPlanTest {
+
+    private List<String> done = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testStepsRunAfterTheirDependencies() throws IOException {
+        new IngestionPlan()
+            .add("access control", () -> done.add("access control"))
+            .add("approvals", () -> done.add("approvals"), "access control")
+            .add("payments", () -> done.add("payments"), "approvals")
+            .run();
+
+        assertThat(done, contains("access control", "approvals", "payments"));
+    }
+
+    @Test
+    public void testIndependentStepsRunConcurrently() throws IOException {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        IngestionPlan.Action awaitOther = () -> {
+            bothStarted.countDown();
+            try {
+                done.add(String.valueOf(bothStarted.await(5, TimeUnit.SECONDS)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        new IngestionPlan()
+            .add("contacts", awaitOther)
+            .add("messages", awaitOther)
+            .run();
+
+        assertThat(done, contains("true", "true"));
+    }
+
+    @Test
+    public void testDependentStepsAreSkippedOnFailure() throws IOException {
+        IngestionPlan plan = new IngestionPlan()
+            .add("access control", () -> {
+                throw new IOException("access control failed");
+            })
+            .add("approvals", () -> done.add("approvals"), "access control")
+            .add("health check", () -> done.add("health check"));
+
+        try {
+            plan.run();
+            fail("Failure of access control should be rethrown");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("access control failed"));
+        }
+
+        assertThat(done, containsInAnyOrder("health check"));
+    }
+
+    @Test
+    public void testStepsUsingUnavailableServiceAreSkipped() throws IOException {
+        List<String> skipped = new IngestionPlan()
+            .add("access control", () -> {
+                throw new CircuitOpenException("accessgroup");
+            })
+            .add("approvals", () -> done.add("approvals"), "access control")
+            .add("health check", () -> done.add("health check"))
+            .run();
+
+        assertThat(skipped, contains("access control", "approvals"));
+        assertThat(done, contains("health check"));
+    }
+
+    @Test
+    public void testStepsUsingUnavailableServiceAsynchronouslyAreSkipped() throws IOException {
+        List<String> skipped = new IngestionPlan()
+            .add("payments", () -> CompletableFuture.runAsync(() -> {
+                throw new CircuitOpenException("payment-order-presentation-service");
+            }).join())
+            .add("health check", () -> done.add("health check"))
+            .run();
+
+        assertThat(skipped, contains("payments"));
+        assertThat(done, contains("health check"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownDependencyIsRejected() {
+        new IngestionPlan().add("payments", () -> done.add("payments"), "approvals");
+    }
+}
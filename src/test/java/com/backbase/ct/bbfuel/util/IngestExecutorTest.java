@@ -0,0 +1,79 @@
+package com.backbase.ct.bbfuel.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class IngestExecutorTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    private IngestExecutor subject = new IngestExecutor();
+
+    @After
+    public void tearDown() {
+        subject.shutdown();
+    }
+
+    @Test
+    public void testNestedFanOutCompletes() {
+        AtomicInteger counter = new AtomicInteger();
+        List<Integer> outer = range(subject.getThreads() * 2);
+
+        subject.forEach(outer, outerItem ->
+            subject.forEach(range(10), innerItem -> {
+                sleep();
+                counter.incrementAndGet();
+            }));
+
+        assertThat(counter.get(), is(outer.size() * 10));
+    }
+
+    @Test
+    public void testParallelismIsBounded() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        subject.forEach(range(20), 3, item -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep();
+            running.decrementAndGet();
+        });
+
+        assertThat(maxRunning.get(), lessThanOrEqualTo(3));
+    }
+
+    @Test
+    public void testFailureIsRethrown() {
+        expectedException.expect(IllegalStateException.class);
+        expectedException.expectMessage("item 5");
+
+        subject.forEach(range(10), item -> {
+            if (item == 5) {
+                throw new IllegalStateException("item " + item);
+            }
+        });
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
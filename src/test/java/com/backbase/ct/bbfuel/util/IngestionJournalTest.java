@@ -0,0 +1,74 @@
+package com.backbase.ct.bbfuel.util;
+
+import static com.backbase.ct.bbfuel.util.IngestionJournal.unit;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class IngestionJournalTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testResumeSkipsUnitsOfPreviousRun() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("test.journal");
+        IngestionJournal previousRun = new IngestionJournal(file);
+        previousRun.open(false);
+        previousRun.markDone(unit("transactions", "A1"));
+        previousRun.put(unit("data-group", "SA1", "Group 1"), "DG1");
+        previousRun.close();
+
+        IngestionJournal subject = new IngestionJournal(file);
+        subject.open(true);
+        AtomicInteger counter = new AtomicInteger();
+        subject.runOnce(unit("transactions", "A1"), counter::incrementAndGet);
+        subject.runOnce(unit("transactions", "A2"), counter::incrementAndGet);
+        subject.runOnce(unit("transactions", "A2"), counter::incrementAndGet);
+        subject.close();
+
+        assertThat(counter.get(), is(1));
+        assertThat(subject.get(unit("data-group", "SA1", "Group 1")), is("DG1"));
+    }
+
+    @Test
+    public void testNewRunStartsFromScratch() throws IOException {
+        Path file = temporaryFolder.getRoot().toPath().resolve("test.journal");
+        IngestionJournal previousRun = new IngestionJournal(file);
+        previousRun.open(false);
+        previousRun.put(unit("data-group", "SA1", "Group 1"), "DG1");
+        previousRun.close();
+
+        IngestionJournal subject = new IngestionJournal(file);
+        subject.open(false);
+        subject.close();
+        subject = new IngestionJournal(file);
+        subject.open(true);
+
+        assertThat(subject.get(unit("data-group", "SA1", "Group 1")), is(nullValue()));
+        subject.close();
+    }
+
+    @Test
+    public void testFailedUnitIsNotRecorded() throws IOException {
+        IngestionJournal subject = new IngestionJournal(temporaryFolder.getRoot().toPath().resolve("test.journal"));
+        subject.open(false);
+
+        try {
+            subject.runOnce(unit("payments", "U1"), () -> {
+                throw new IllegalStateException("failed");
+            });
+        } catch (IllegalStateException ignored) {
+        }
+
+        assertThat(subject.isDone(unit("payments", "U1")), is(false));
+        subject.close();
+    }
+}